@@ -18,7 +18,6 @@ package io.artframework;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import java.util.HashMap;
@@ -33,8 +32,9 @@ public abstract class AbstractArtObjectContext<TArtObject extends ArtObject> ext
     @Getter
     private final Map<String, Object> data = new HashMap<>();
     @Getter
-    @Setter
     private String storageKey = UUID.randomUUID().toString();
+    // the context part of the storage keys is created once and shared by all stored values
+    private volatile StorageKey contextKey;
 
     public AbstractArtObjectContext(@NonNull Scope scope, ArtObjectMeta<TArtObject> information) {
         super(scope);
@@ -46,13 +46,51 @@ public abstract class AbstractArtObjectContext<TArtObject extends ArtObject> ext
         return information;
     }
 
+    @Override
+    public AbstractArtObjectContext<TArtObject> storageKey(String storageKey) {
+        this.storageKey = storageKey;
+        this.contextKey = null;
+        return this;
+    }
+
     @Override
     public <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull TValue value) {
-        return configuration().storage().set(this, target, key, value);
+        return configuration().storage().set(contextKey().with(target, key), value);
     }
 
     @Override
     public <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass) {
-        return configuration().storage().get(this, target, key, valueClass);
+        return configuration().storage().get(contextKey().with(target, key), valueClass);
+    }
+
+    @Override
+    public int increment(@NonNull Target<?> target, @NonNull String key, int delta) {
+        return configuration().storage().increment(contextKey().with(target, key), delta);
+    }
+
+    protected int count(@NonNull Target<?> target, @NonNull String key) {
+        return configuration().storage().count(contextKey().with(target, key));
+    }
+
+    protected long timestamp(@NonNull Target<?> target, @NonNull String key) {
+        return configuration().storage().timestamp(contextKey().with(target, key));
+    }
+
+    protected long timestamp(@NonNull Target<?> target, @NonNull String key, long timestamp, long ttl) {
+        return configuration().storage().timestamp(contextKey().with(target, key), timestamp, ttl);
+    }
+
+    protected boolean compareAndSetTimestamp(@NonNull Target<?> target, @NonNull String key, long expected, long timestamp, long ttl) {
+        return configuration().storage().compareAndSetTimestamp(contextKey().with(target, key), expected, timestamp, ttl);
+    }
+
+    private StorageKey contextKey() {
+
+        StorageKey key = contextKey;
+        if (key == null) {
+            key = StorageKey.of(this);
+            contextKey = key;
+        }
+        return key;
     }
 }
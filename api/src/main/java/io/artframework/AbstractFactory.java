@@ -16,11 +16,13 @@
 
 package io.artframework;
 
+import io.artframework.util.ReflectionUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
 
 @Getter
 @Accessors(fluent = true)
@@ -28,6 +30,8 @@ public abstract class AbstractFactory<TContext extends ArtObjectContext<TArtObje
 
     private final Scope scope;
     private final ArtObjectMeta<TArtObject> meta;
+    @Getter(AccessLevel.NONE)
+    private volatile Supplier<?> configProvider;
 
     protected AbstractFactory(@NonNull Scope scope, @NonNull ArtObjectMeta<TArtObject> meta) {
         this.scope = scope;
@@ -49,10 +53,10 @@ public abstract class AbstractFactory<TContext extends ArtObjectContext<TArtObje
                     ((Configurable<TArtObject>) artObject).load(artObject);
                 } else {
                     try {
-                        Object config = configClass.getConstructor().newInstance();
+                        Object config = configProvider(configClass).get();
                         configMap.applyTo(config);
                         ((Configurable) artObject).load(config);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+                    } catch (ReflectiveOperationException e) {
                         e.printStackTrace();
                     }
                 }
@@ -63,4 +67,14 @@ public abstract class AbstractFactory<TContext extends ArtObjectContext<TArtObje
 
         return artObject;
     }
+
+    private Supplier<?> configProvider(Class<?> configClass) throws ReflectiveOperationException {
+
+        Supplier<?> configProvider = this.configProvider;
+        if (configProvider == null) {
+            configProvider = ReflectionUtil.getConstructorSupplier(configClass);
+            this.configProvider = configProvider;
+        }
+        return configProvider;
+    }
 }
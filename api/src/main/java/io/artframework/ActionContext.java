@@ -81,4 +81,19 @@ public interface ActionContext<TTarget> extends Action<TTarget>, ArtObjectContex
 
     @Override
     FutureResult execute(@NonNull Target<TTarget> target, @NonNull ExecutionContext<ActionContext<TTarget>> context);
+
+    /**
+     * Executes the action in this context and all nested actions for the given target
+     * without collecting any results.
+     * <p>Use this if the result of the execution is not needed, e.g. when the action is executed
+     * by a trigger, to avoid building the result tree of the action and its nested actions.
+     * The {@link ResultSink} of the {@link Configuration} is still called for every executed action.
+     * <p>The default implementation executes the action and discards the result.
+     *
+     * @param target the target to execute the action for
+     * @param context the execution context of the action
+     */
+    default void executeAndForget(@NonNull Target<TTarget> target, @NonNull ExecutionContext<ActionContext<TTarget>> context) {
+        execute(target, context);
+    }
 }
@@ -16,7 +16,9 @@
 
 package io.artframework;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public interface ActionHolder {
 
@@ -24,20 +26,59 @@ public interface ActionHolder {
 
     Collection<ActionContext<?>> actions();
 
+    /**
+     * Gets all actions of this holder that accept the given target in the order they were added.
+     * <p>Implementations should cache the result per target class to avoid checking
+     * the target type of every action on every execution.
+     *
+     * @param target the target to get the matching actions for
+     * @return all actions matching the type of the target
+     */
+    default Collection<ActionContext<?>> actions(Target<?> target) {
+        List<ActionContext<?>> actions = new ArrayList<>();
+        for (ActionContext<?> action : actions()) {
+            if (action.isTargetType(target)) {
+                actions.add(action);
+            }
+        }
+        return actions;
+    }
+
     default FutureResult executeActions(ExecutionContext<?> context) {
-        return context.targets().stream()
-                .map(target -> executeActions(target, context))
-                .reduce(FutureResult::combine)
-                .orElse(FutureResult.empty());
+        FutureResult result = null;
+        for (Target<?> target : context.targets()) {
+            FutureResult targetResult = executeActions(target, context);
+            result = result == null ? targetResult : result.combine(targetResult);
+        }
+        return result == null ? FutureResult.empty() : result;
     }
 
     @SuppressWarnings("unchecked")
     default <TTarget> FutureResult executeActions(Target<TTarget> target, ExecutionContext<?> executionContext) {
-        return actions().stream()
-                .filter(actionContext -> actionContext.isTargetType(target))
-                .map(actionContext -> (ActionContext<TTarget>) actionContext)
-                .map(action -> action.execute(target, executionContext.next(action)))
-                .reduce(FutureResult::combine)
-                .orElse(FutureResult.empty());
+        FutureResult result = null;
+        for (ActionContext<?> action : actions(target)) {
+            ActionContext<TTarget> actionContext = (ActionContext<TTarget>) action;
+            FutureResult actionResult = actionContext.execute(target, executionContext.next(actionContext));
+            result = result == null ? actionResult : result.combine(actionResult);
+        }
+        return result == null ? FutureResult.empty() : result;
+    }
+
+    /**
+     * Executes all actions of this holder that match the given target without collecting their results.
+     * <p>Use this if the result of the execution is not needed to avoid building the result tree
+     * of all actions and their nested actions.
+     *
+     * @param target the target to execute the actions for
+     * @param executionContext the context of the execution
+     * @param <TTarget> the type of the target
+     * @see ActionContext#executeAndForget(Target, ExecutionContext)
+     */
+    @SuppressWarnings("unchecked")
+    default <TTarget> void executeActionsAndForget(Target<TTarget> target, ExecutionContext<?> executionContext) {
+        for (ActionContext<?> action : actions(target)) {
+            ActionContext<TTarget> actionContext = (ActionContext<TTarget>) action;
+            actionContext.executeAndForget(target, executionContext.next(actionContext));
+        }
     }
 }
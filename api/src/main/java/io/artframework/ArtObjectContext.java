@@ -97,4 +97,20 @@ public interface ArtObjectContext<TArtObject extends ArtObject> extends TargetHo
      * @return the stored value or an empty {@link Optional} if the value type cannot be cast or does not exist
      */
     <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass);
+
+    /**
+     * Adds the delta to the counter stored for the given {@link Target} and this {@link ArtObjectContext}.
+     * <p>The counter starts at zero and is stored under the same key combination as {@link #store(Target, String, Object)}.
+     *
+     * @param target target to increment the counter for
+     * @param key    storage key of the counter
+     * @param delta  the value to add to the counter
+     * @return the new value of the counter
+     * @see StorageProvider#increment(StorageKey, int)
+     */
+    default int increment(@NonNull Target<?> target, @NonNull String key, int delta) {
+        int value = store(target, key, Integer.class).orElse(0) + delta;
+        store(target, key, value);
+        return value;
+    }
 }
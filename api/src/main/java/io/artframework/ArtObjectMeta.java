@@ -107,6 +107,33 @@ public interface ArtObjectMeta<TArtObject extends ArtObject> {
      */
     boolean autoRegister();
 
+    /**
+     * @return true if instances of the art object may be reused across executions
+     * @throws UnsupportedOperationException if this meta object is not {@link #initialized()}
+     * @see io.artframework.annotations.ART#shareable()
+     */
+    default boolean shareable() {
+        return false;
+    }
+
+    /**
+     * @return true if testing the requirement has side effects and it must always be tested
+     * @throws UnsupportedOperationException if this meta object is not {@link #initialized()}
+     * @see io.artframework.annotations.ART#stateful()
+     */
+    default boolean stateful() {
+        return false;
+    }
+
+    /**
+     * @return true if the memoized requirement results must be discarded after executing the art object
+     * @throws UnsupportedOperationException if this meta object is not {@link #initialized()}
+     * @see io.artframework.annotations.ART#invalidatesRequirements()
+     */
+    default boolean invalidatesRequirements() {
+        return true;
+    }
+
     /**
      * The config class is used to construct a {@link ConfigMap} for the art object.
      * <p>The config class may be the same as the {@link #artObjectClass()}.
@@ -18,6 +18,8 @@ package io.artframework;
 
 import lombok.NonNull;
 
+import java.util.function.Supplier;
+
 public interface CombinedResultCreator extends ResultCreator {
 
     default CombinedResult resultOf(@NonNull Result result) {
@@ -49,11 +51,21 @@ public interface CombinedResultCreator extends ResultCreator {
         return CombinedResult.of(Result.failure(messages));
     }
 
+    @Override
+    default CombinedResult failure(@NonNull Supplier<String> message) {
+        return CombinedResult.of(Result.failure(message));
+    }
+
     @Override
     default CombinedResult error(String... messages) {
         return CombinedResult.of(Result.error(messages));
     }
 
+    @Override
+    default CombinedResult error(@NonNull Supplier<String> message) {
+        return CombinedResult.of(Result.error(message));
+    }
+
     @Override
     default CombinedResult error(Exception exception, String... messages) {
         return CombinedResult.of(Result.error(exception, messages));
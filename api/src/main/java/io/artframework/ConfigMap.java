@@ -116,6 +116,29 @@ public interface ConfigMap {
      */
     ConfigMap resolve(@NonNull Scope scope, @Nullable Target<?> target, @Nullable ExecutionContext<?> context);
 
+    /**
+     * Checks if resolving this config map yields the same values for every target and execution.
+     * <p>A config map is static if none of its values contains a {@link Replacement#PLACEHOLDER_PREFIX placeholder}
+     * and none of its values needs to be resolved by a {@link Resolver}.
+     * Objects created from static config maps can be created once and reused for every target.
+     *
+     * @return true if the resolved values do not depend on the target or execution context
+     * @see #isStatic(Scope)
+     */
+    boolean isStatic();
+
+    /**
+     * Checks if resolving this config map in the given scope yields the same values for every target and execution.
+     * <p>Besides being {@link #isStatic()} all replacements of the scope must be {@link Replacement#placeholderOnly()},
+     * because other replacements may change any value.
+     *
+     * @param scope the scope the config map is resolved in
+     * @return true if the resolved values do not depend on the target or execution context
+     */
+    default boolean isStatic(@NonNull Scope scope) {
+        return isStatic() && scope.configuration().replacements().placeholderOnly();
+    }
+
     /**
      * Applies the loaded and mapped config values of this config map to the given config instance.
      * <p>Will inject the mapped fields with the values provided from {@link #with(List)} into the config.
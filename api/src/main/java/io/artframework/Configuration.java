@@ -40,6 +40,8 @@ public class Configuration {
     RequirementProvider requirements;
     TriggerProvider trigger;
     Scheduler scheduler;
+    ResultSink resultSink;
+    RequirementCache requirementCache;
     StorageProvider storage;
     TargetProvider targets;
     ResolverProvider resolvers;
@@ -54,4 +56,12 @@ public class Configuration {
     public Optional<Scheduler> scheduler() {
         return Optional.ofNullable(scheduler);
     }
+
+    public Optional<ResultSink> resultSink() {
+        return Optional.ofNullable(resultSink);
+    }
+
+    public Optional<RequirementCache> requirementCache() {
+        return Optional.ofNullable(requirementCache);
+    }
 }
@@ -17,60 +17,88 @@
 package io.artframework;
 
 import com.google.common.collect.ImmutableList;
-import lombok.AccessLevel;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.experimental.Accessors;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.List;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+/**
+ * A thread safe {@link FutureResult} that is backed by a {@link CompletableFuture}.
+ * <p>Completing the result is lock free and only the first completion wins.
+ * A subscribed consumer is called once when this result completes, no matter if it subscribed
+ * before or after the completion.
+ * <p>The consumers are kept in an immutable tree that is shared between combined results,
+ * which makes {@link #combine(Result)} and {@link #onCompletion(Consumer)} constant time operations.
+ * A result created by {@link #combine(Result)} inherits the consumers of both results,
+ * so a consumer is called again for every combined result that completes.
+ */
 @Accessors(fluent = true)
 public final class DefaultFutureResult implements FutureResult {
 
-    @Getter(AccessLevel.PRIVATE)
-    @Setter(AccessLevel.PRIVATE)
-    private CombinedResult result;
-    private boolean complete;
-
-    private final List<Consumer<CombinedResult>> consumers;
+    private final CombinedResult result;
+    private final CompletableFuture<CombinedResult> future = new CompletableFuture<>();
+    private final AtomicReference<Consumers> consumers;
 
     public DefaultFutureResult() {
         this(CombinedResult.empty());
     }
 
     public DefaultFutureResult(@NonNull CombinedResult result) {
-        this(result, new ArrayList<>());
+        this(result, (Consumers) null);
     }
 
     DefaultFutureResult(@NonNull CombinedResult result, @NonNull Collection<Consumer<CombinedResult>> consumers) {
+        this(result, Consumers.of(consumers));
+    }
+
+    private DefaultFutureResult(CombinedResult result, Consumers inherited) {
         this.result = result;
-        this.consumers = new ArrayList<>(consumers);
+        this.consumers = new AtomicReference<>(inherited);
+        if (inherited != null) {
+            future.thenAccept(inherited::accept);
+        }
+    }
+
+    /**
+     * Gets the final result if this future result is complete or the intermediate result if it is not.
+     *
+     * @return the current result
+     */
+    private CombinedResult result() {
+        return future.getNow(result);
     }
 
     @Override
     public boolean isComplete() {
-        return complete;
+        return future.isDone();
     }
 
     @Override
-    public void onCompletion(Consumer<CombinedResult> callback) {
-        if (isComplete()) {
-            consumers().forEach(consumer -> consumer.accept(result()));
-        } else {
-            consumers.add(callback);
-        }
+    public void onCompletion(@NonNull Consumer<CombinedResult> callback) {
+        consumers.updateAndGet(current -> Consumers.join(current, new Consumers(callback)));
+        future.thenAccept(callback);
     }
 
     @Override
-    public FutureResult complete() {
-        if (isComplete()) return this;
+    public void onCompletion(@NonNull Consumer<CombinedResult> callback, @NonNull Executor executor) {
+        onCompletion(result -> executor.execute(() -> callback.accept(result)));
+    }
+
+    @Override
+    public CompletionStage<CombinedResult> completionStage() {
+        return future.minimalCompletionStage();
+    }
 
-        consumers().forEach(consumer -> consumer.accept(result()));
-        complete = true;
+    @Override
+    public FutureResult complete() {
+        future.complete(result);
 
         return this;
     }
@@ -79,16 +107,18 @@ public final class DefaultFutureResult implements FutureResult {
     public FutureResult complete(Result futureResult) {
         if (isComplete()) return this;
 
-        result(combine(futureResult));
+        future.complete(result.combine(futureResult));
 
-        return complete();
+        return this;
     }
 
     @Override
     public FutureResult combine(Result result) {
-        ArrayList<Consumer<CombinedResult>> consumers = new ArrayList<>(consumers());
-        if (result instanceof FutureResult) {
-            consumers.addAll(((FutureResult) result).consumers());
+        Consumers consumers = this.consumers.get();
+        if (result instanceof DefaultFutureResult) {
+            consumers = Consumers.join(consumers, ((DefaultFutureResult) result).consumers.get());
+        } else if (result instanceof FutureResult) {
+            consumers = Consumers.join(consumers, Consumers.of(((FutureResult) result).consumers()));
         }
 
         return new DefaultFutureResult(result().combine(result), consumers);
@@ -96,7 +126,12 @@ public final class DefaultFutureResult implements FutureResult {
 
     @Override
     public Collection<Consumer<CombinedResult>> consumers() {
-        return ImmutableList.copyOf(consumers);
+        Consumers consumers = this.consumers.get();
+        if (consumers == null) return ImmutableList.of();
+
+        ImmutableList.Builder<Consumer<CombinedResult>> list = ImmutableList.builder();
+        consumers.forEach(list::add);
+        return list.build();
     }
 
     @Override
@@ -123,4 +158,59 @@ public final class DefaultFutureResult implements FutureResult {
     public String[] messages() {
         return result().messages();
     }
+
+    /**
+     * Immutable binary tree of consumers that can be joined in constant time.
+     * A node either holds a single consumer or joins two subtrees.
+     */
+    private static final class Consumers {
+
+        private final Consumer<CombinedResult> consumer;
+        private final Consumers left;
+        private final Consumers right;
+
+        private Consumers(Consumer<CombinedResult> consumer) {
+            this.consumer = consumer;
+            this.left = null;
+            this.right = null;
+        }
+
+        private Consumers(Consumers left, Consumers right) {
+            this.consumer = null;
+            this.left = left;
+            this.right = right;
+        }
+
+        static Consumers join(Consumers left, Consumers right) {
+            if (left == null) return right;
+            if (right == null) return left;
+            return new Consumers(left, right);
+        }
+
+        static Consumers of(Collection<Consumer<CombinedResult>> consumers) {
+            Consumers result = null;
+            for (Consumer<CombinedResult> consumer : consumers) {
+                result = join(result, new Consumers(consumer));
+            }
+            return result;
+        }
+
+        void accept(CombinedResult result) {
+            forEach(consumer -> consumer.accept(result));
+        }
+
+        void forEach(Consumer<Consumer<CombinedResult>> action) {
+            Deque<Consumers> stack = new ArrayDeque<>();
+            stack.push(this);
+            while (!stack.isEmpty()) {
+                Consumers node = stack.pop();
+                if (node.consumer != null) {
+                    action.accept(node.consumer);
+                } else {
+                    stack.push(node.right);
+                    stack.push(node.left);
+                }
+            }
+        }
+    }
 }
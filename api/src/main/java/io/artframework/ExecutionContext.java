@@ -16,6 +16,7 @@
 
 package io.artframework;
 
+import io.artframework.conf.ArtSettings;
 import io.artframework.impl.DefaultExecutionContext;
 import lombok.NonNull;
 
@@ -65,6 +66,21 @@ public interface ExecutionContext<TContext extends ArtObjectContext<?>> extends
      */
     Optional<Context> root();
 
+    /**
+     * Gets the settings that control this execution.
+     * <p>The settings of the root {@link ArtContext} are used if the execution was initialized by one.
+     * Otherwise the {@link ArtSettings} of the {@link Scope} are used.
+     *
+     * @return the settings of this execution
+     */
+    default ArtSettings settings() {
+        Context root = root().orElse(null);
+        if (root instanceof ArtContext) {
+            return ((ArtContext) root).settings();
+        }
+        return scope().settings().artSettings();
+    }
+
     /**
      * Gets the parent of this {@link ExecutionContext} that
      * was directly executed before this {@link ArtObjectContext}.
@@ -150,6 +166,57 @@ public interface ExecutionContext<TContext extends ArtObjectContext<?>> extends
      */
     <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass);
 
+    /**
+     * Adds the delta to the counter stored for the {@link Target} and the current {@link ArtObjectContext}.
+     *
+     * @param target the target to increment the counter for
+     * @param key storage key of the counter
+     * @param delta the value to add to the counter
+     * @return the new value of the counter
+     * @see ArtObjectContext#increment(Target, String, int)
+     */
+    default int increment(@NonNull Target<?> target, @NonNull String key, int delta) {
+        if (current() != null) {
+            return current().increment(target, key, delta);
+        }
+        return 0;
+    }
+
+    /**
+     * Tests the given requirement for the target as part of this execution.
+     * <p>Results of requirements that are not {@link RequirementContext#stateful()} are memoized
+     * for the whole execution chain. This means the same requirement is only evaluated once per target,
+     * even if it is tested by the trigger and then again by the art context that is executed by the trigger.
+     *
+     * @param requirement the requirement that should be tested
+     * @param target the target to test the requirement for
+     * @param <TTarget> type of the target
+     * @return the result of the requirement test
+     */
+    default <TTarget> Result test(@NonNull RequirementContext<TTarget> requirement, @NonNull Target<TTarget> target) {
+
+        return requirement.test(target, next(requirement));
+    }
+
+    /**
+     * Discards all memoized requirement results of this execution chain.
+     * <p>Needs to be called whenever the state the requirements are tested against may have changed,
+     * e.g. after an action was executed, see {@link io.artframework.annotations.ART#invalidatesRequirements()}.
+     */
+    default void invalidateRequirements() {
+    }
+
+    /**
+     * Creates a frame of this execution that continues at a later time, e.g. a delayed action.
+     * <p>The frame shares the targets, data and variables of this execution,
+     * but does not reuse its memoized requirement results.
+     *
+     * @return the execution context of the delayed execution
+     */
+    default ExecutionContext<TContext> detach() {
+        return this;
+    }
+
     /**
      * Uses this {@link ExecutionContext} as a parent for the next {@link ArtObjectContext}
      * copying over all other parents and the root context of this execution context.
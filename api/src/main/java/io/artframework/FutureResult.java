@@ -17,6 +17,8 @@
 package io.artframework;
 
 import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -32,6 +34,9 @@ import java.util.function.Consumer;
  * intermediate state of this result with the normal methods.
  * This will always only reflect the point in time were this future result was created. It will never
  * reflect the state in between the creation and completion of the future result.
+ * <p>
+ * Future results are thread safe and may be completed from any thread.
+ * Only the first completion is accepted, every further completion is ignored.
  */
 public interface FutureResult extends CombinedResult {
 
@@ -79,11 +84,38 @@ public interface FutureResult extends CombinedResult {
     /**
      * Use this callback to react to the completion of this future result.
      * It will be called once the result is complete or immediately if the result is already complete.
+     * <p>
+     * The callback is called once on the thread that completed the result
+     * or on the calling thread if the result is already complete.
+     * Results combined with this result inherit the callback and call it again when they complete.
      *
      * @param result the callback that consumes the final result
      */
     void onCompletion(Consumer<CombinedResult> result);
 
+    /**
+     * Use this callback to react to the completion of this future result.
+     * The callback is called once with the given executor
+     * after the result completed, and again for every combined result that inherited it.
+     * <p>
+     * Use this method to get back on a specific thread, e.g. the main thread of a server,
+     * if the actions may be executed on another thread.
+     *
+     * @param result the callback that consumes the final result
+     * @param executor the executor that runs the callback
+     */
+    void onCompletion(Consumer<CombinedResult> result, Executor executor);
+
+    /**
+     * Gets a view of this future result as a {@link CompletionStage} that completes
+     * with the final result once this result completes.
+     * <p>
+     * The stage cannot be used to complete this result.
+     *
+     * @return a completion stage of this future result
+     */
+    CompletionStage<CombinedResult> completionStage();
+
     /**
      * Completes this future result without combining it with another result.
      * <p>
@@ -113,6 +145,8 @@ public interface FutureResult extends CombinedResult {
      * Combines this future result with the given result.
      * The consumers of both results will be combined if the given result is also a future result.
      * Will return a new future result and leave this result unmodified.
+     * <p>
+     * Combining future results is a constant time operation and does not copy any consumers.
      *
      * @param result the result to combine with this result
      * @return a new future result with combined consumers
@@ -18,6 +18,8 @@ package io.artframework;
 
 import lombok.NonNull;
 
+import java.util.function.Supplier;
+
 public interface FutureResultCreator extends CombinedResultCreator {
 
     @Override
@@ -45,11 +47,21 @@ public interface FutureResultCreator extends CombinedResultCreator {
         return FutureResult.of(CombinedResult.of(Result.failure(messages)));
     }
 
+    @Override
+    default FutureResult failure(@NonNull Supplier<String> message) {
+        return FutureResult.of(CombinedResult.of(Result.failure(message)));
+    }
+
     @Override
     default FutureResult error(String... messages) {
         return FutureResult.of(CombinedResult.of(Result.error(messages)));
     }
 
+    @Override
+    default FutureResult error(@NonNull Supplier<String> message) {
+        return FutureResult.of(CombinedResult.of(Result.error(message)));
+    }
+
     @Override
     default FutureResult error(Exception exception, String... messages) {
         return FutureResult.of(CombinedResult.of(Result.error(exception, messages)));
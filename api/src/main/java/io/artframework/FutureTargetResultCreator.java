@@ -18,6 +18,8 @@ package io.artframework;
 
 import lombok.NonNull;
 
+import java.util.function.Supplier;
+
 public interface FutureTargetResultCreator {
 
     default FutureResult of(@NonNull ResultStatus status, Target<?> target, ArtObjectContext<?> context, @NonNull String... messages) {
@@ -44,6 +46,10 @@ public interface FutureTargetResultCreator {
         return FutureResult.of(CombinedResult.of(Result.failure(messages).with(target, context)));
     }
 
+    default FutureResult failure(Target<?> target, ArtObjectContext<?> context, @NonNull Supplier<String> message) {
+        return FutureResult.of(CombinedResult.of(Result.failure(message).with(target, context)));
+    }
+
     default FutureResult error(Target<?> target, ArtObjectContext<?> context, String... messages) {
         return FutureResult.of(CombinedResult.of(Result.error(messages).with(target, context)));
     }
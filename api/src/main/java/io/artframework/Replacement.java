@@ -5,10 +5,19 @@ import io.artframework.impl.ReplacementContext;
 /**
  * Replacements are applied to {@link ConfigMap}s before resolving and applying values.
  * <p>Register your replacement with the {@link ReplacementProvider}.
+ * <p>By default every config value is passed to every replacement, e.g. to replace <code>%player_name%</code>.
+ * Replacements that only replace placeholders that start with {@link #PLACEHOLDER_PREFIX}, e.g. <code>${player}</code>,
+ * should return true from {@link #placeholderOnly()}. If all replacements do so, config values without any placeholder
+ * are considered static and may be resolved only once instead of once per target, see {@link ConfigMap#isStatic(Scope)}.
  */
 @FunctionalInterface
 public interface Replacement extends ArtObject {
 
+    /**
+     * The prefix of every placeholder that may be replaced by a replacement.
+     */
+    String PLACEHOLDER_PREFIX = "${";
+
     /**
      * Replaces the given string with a new value based on the resolution context.
      * <p>Simply return the input value if no replacement is performed.
@@ -18,4 +27,33 @@ public interface Replacement extends ArtObject {
      * @return the new value or the unmodified if no replacement was performed
      */
     String replace(String value, ReplacementContext context);
+
+    /**
+     * Return true if this replacement only replaces placeholders that start with {@link #PLACEHOLDER_PREFIX}.
+     * <p>The replacement is then only called for the placeholders of a value
+     * and values without a placeholder are never passed to it.
+     *
+     * @return true if this replacement only replaces <code>${...}</code> placeholders
+     */
+    default boolean placeholderOnly() {
+
+        return false;
+    }
+
+    /**
+     * Provides the value of a single placeholder of a precompiled {@link io.artframework.util.StringTemplate}.
+     * <p>Override this to look up the value directly instead of searching and replacing it in a string.
+     * The default implementation applies {@link #replace(String, ReplacementContext)} to the placeholder alone.
+     *
+     * @param placeholder the key of the placeholder without the prefix and suffix, e.g. <code>player</code>
+     * @param context the context of the replacement
+     * @return the value of the placeholder or null if this replacement does not replace the placeholder
+     */
+    default String replacePlaceholder(String placeholder, ReplacementContext context) {
+
+        String value = PLACEHOLDER_PREFIX + placeholder + "}";
+        String replacedValue = replace(value, context);
+
+        return value.equals(replacedValue) ? null : replacedValue;
+    }
 }
@@ -3,6 +3,7 @@ package io.artframework;
 import io.artframework.impl.DefaultReplacementProvider;
 import io.artframework.impl.ReplacementContext;
 import io.artframework.replacements.VariableReplacement;
+import io.artframework.util.StringTemplate;
 import lombok.NonNull;
 
 import java.util.Arrays;
@@ -93,4 +94,49 @@ public interface ReplacementProvider extends Provider {
 
         return value;
     }
+
+    /**
+     * Renders the given template replacing each placeholder with the value
+     * of the first replacement that provides one.
+     * <p>Placeholders no replacement provides a value for are kept as they are.
+     * Afterwards all replacements that are not {@link Replacement#placeholderOnly()} are applied to the rendered value.
+     *
+     * @param template the precompiled template that should be rendered
+     * @param context the context of the replacement
+     * @return the rendered value
+     * @see Replacement#replacePlaceholder(String, ReplacementContext)
+     */
+    default String replace(StringTemplate template, ReplacementContext context) {
+
+        Collection<Replacement> replacements = all();
+        String value = template.constant() ? template.source() : template.render(placeholder -> {
+            for (Replacement replacement : replacements) {
+                String replacedValue = replacement.replacePlaceholder(placeholder, context);
+                if (replacedValue != null) return replacedValue;
+            }
+            return null;
+        });
+
+        for (Replacement replacement : replacements) {
+            if (!replacement.placeholderOnly()) {
+                value = replacement.replace(value, context);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks if all registered replacements only replace <code>${...}</code> placeholders.
+     * <p>Values without a placeholder then never change when they are replaced.
+     *
+     * @return true if all replacements are {@link Replacement#placeholderOnly()}
+     */
+    default boolean placeholderOnly() {
+
+        for (Replacement replacement : all()) {
+            if (!replacement.placeholderOnly()) return false;
+        }
+        return true;
+    }
 }
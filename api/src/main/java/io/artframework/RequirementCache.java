@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import io.artframework.impl.DefaultRequirementCache;
+import lombok.NonNull;
+
+import java.util.Optional;
+
+/**
+ * The requirement cache stores the results of requirements that configured a cache duration.
+ * <p>Use this for requirements that are expensive to test, but return the same result
+ * for a target over a long time, e.g. equipment checks.
+ * Results are cached per requirement context and target and expire after the configured duration.
+ * <p>Platforms should invalidate the cached results of a target as soon as its state changes,
+ * e.g. if a player changed its inventory or the world.
+ * State the platform can not observe, like the permissions of a player on most servers,
+ * must be invalidated by whoever changes it with {@link #invalidate(Target)}.
+ * Until then the cached result is kept, which is why permission checks should not be cached.
+ * <p>Requirements that are {@link RequirementContext#stateful()} are never cached.
+ *
+ * @see io.artframework.conf.RequirementConfig#cache()
+ */
+public interface RequirementCache {
+
+    static RequirementCache of() {
+        return new DefaultRequirementCache();
+    }
+
+    /**
+     * Creates a requirement cache that periodically removes expired results
+     * using the scheduler of the given scope.
+     *
+     * @param scope the scope the cache is used in
+     * @return a new requirement cache
+     */
+    static RequirementCache of(Scope scope) {
+        return new DefaultRequirementCache(scope);
+    }
+
+    /**
+     * Gets the cached result of the requirement for the given target.
+     *
+     * @param requirement the requirement context that tested the target
+     * @param target the target the requirement was tested for
+     * @param <TTarget> type of the target
+     * @return the cached result or an empty optional if nothing is cached or the result expired
+     */
+    <TTarget> Optional<Result> get(@NonNull RequirementContext<TTarget> requirement, @NonNull Target<TTarget> target);
+
+    /**
+     * Caches the result of the requirement for the given target.
+     *
+     * @param requirement the requirement context that tested the target
+     * @param target the target the requirement was tested for
+     * @param result the result of the test
+     * @param duration the time in milliseconds the result is valid
+     * @param <TTarget> type of the target
+     */
+    <TTarget> void put(@NonNull RequirementContext<TTarget> requirement, @NonNull Target<TTarget> target, @NonNull Result result, long duration);
+
+    /**
+     * Removes all cached results of the given target.
+     * <p>Call this whenever the state of the target changed, e.g. when a player changed its inventory.
+     *
+     * @param target the target to remove all cached results for
+     */
+    void invalidate(@NonNull Target<?> target);
+
+    /**
+     * Removes all cached results of the given requirement.
+     *
+     * @param requirement the requirement context to remove all cached results for
+     */
+    void invalidate(@NonNull RequirementContext<?> requirement);
+
+    /**
+     * Removes all cached results.
+     */
+    void invalidateAll();
+}
@@ -20,6 +20,8 @@ import io.artframework.conf.RequirementConfig;
 import io.artframework.impl.DefaultRequirementContext;
 import lombok.NonNull;
 
+import java.util.Optional;
+
 /**
  * The {@link RequirementContext} holds all of the information to execute the contained {@link Requirement}.
  * It also provides a lot of useful additional features like storing data for the context of the
@@ -55,6 +57,29 @@ public interface RequirementContext<TTarget> extends Requirement<TTarget>, ArtOb
      */
     RequirementConfig config();
 
+    /**
+     * Checks if the requirement keeps state between its tests, e.g. by counting successful checks.
+     * <p>Stateful requirements are always tested, even if the outcome of the requirement holder
+     * was already decided by a failed requirement.
+     *
+     * @return true if testing this requirement has side effects
+     * @see io.artframework.conf.ArtSettings#shortCircuitRequirements()
+     */
+    default boolean stateful() {
+        return false;
+    }
+
+    /**
+     * Gets the runtime statistics of the tests of this requirement.
+     * <p>The statistics are only recorded if {@link io.artframework.conf.ArtSettings#adaptiveRequirementOrdering()}
+     * is enabled and are empty if the requirement does not record any statistics at all.
+     *
+     * @return the statistics of this requirement
+     */
+    default Optional<RequirementStatistics> statistics() {
+        return Optional.empty();
+    }
+
     @Override
     TargetResult<TTarget, RequirementContext<TTarget>> test(@NonNull Target<TTarget> target, @NonNull ExecutionContext<RequirementContext<TTarget>> context);
 }
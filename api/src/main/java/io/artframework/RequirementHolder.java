@@ -16,7 +16,11 @@
 
 package io.artframework;
 
+import io.artframework.conf.ArtSettings;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public interface RequirementHolder {
 
@@ -24,21 +28,115 @@ public interface RequirementHolder {
 
     Collection<RequirementContext<?>> requirements();
 
+    /**
+     * Gets all requirements of this holder that accept the given target in the order they were added.
+     * <p>Implementations should cache the result per target class to avoid checking
+     * the target type of every requirement on every test.
+     *
+     * @param target the target to get the matching requirements for
+     * @return all requirements matching the type of the target
+     */
+    default Collection<RequirementContext<?>> requirements(Target<?> target) {
+        List<RequirementContext<?>> requirements = new ArrayList<>();
+        for (RequirementContext<?> requirement : requirements()) {
+            if (requirement.isTargetType(target)) {
+                requirements.add(requirement);
+            }
+        }
+        return requirements;
+    }
+
+    /**
+     * Gets the requirements of this holder that accept the given target in the order they are currently tested
+     * when {@link ArtSettings#adaptiveRequirementOrdering()} is enabled.
+     * <p>Implementations may reorder requirements without side effects based on their {@link RequirementStatistics},
+     * but must keep {@link RequirementContext#stateful()} requirements at their original position.
+     * The default implementation keeps the order the requirements were added in.
+     *
+     * @param target the target to get the matching requirements for
+     * @return all requirements matching the type of the target in their current test order
+     */
+    default List<RequirementContext<?>> requirementOrder(Target<?> target) {
+        return new ArrayList<>(requirements(target));
+    }
+
+    /**
+     * Tests all requirements of this holder against every target of the given context.
+     * <p>If {@link ArtSettings#shortCircuitRequirements()} is enabled only {@link RequirementContext#stateful()}
+     * requirements are tested after the first requirement failed or had an error.
+     * <p>If {@link ArtSettings#adaptiveRequirementOrdering()} is enabled the requirements
+     * are tested in their {@link #requirementOrder(Target)}.
+     *
+     * @param context the context of the execution
+     * @return the combined result of all tested requirements
+     */
     default CombinedResult testRequirements(ExecutionContext<?> context) {
-        return context.targets().stream()
-                .map(target -> testRequirements(target, context))
-                .reduce(Result::combine)
-                .orElse(CombinedResult.empty());
+        ArtSettings settings = context.settings();
+        boolean shortCircuit = settings != null && settings.shortCircuitRequirements();
+        boolean adaptive = settings != null && settings.adaptiveRequirementOrdering();
+        CombinedResult result = null;
+        for (Target<?> target : context.targets()) {
+            boolean decided = shortCircuit && result != null && isDecided(result);
+            CombinedResult targetResult = testRequirements(adaptive ? requirementOrder(target) : requirements(target), target, context, shortCircuit, decided);
+            result = result == null ? targetResult : result.combine(targetResult);
+        }
+        return result == null ? CombinedResult.empty() : result;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Tests all requirements of this holder that match the given target.
+     * <p>If {@link ArtSettings#shortCircuitRequirements()} is enabled only {@link RequirementContext#stateful()}
+     * requirements are tested after the first requirement failed or had an error.
+     * <p>If {@link ArtSettings#adaptiveRequirementOrdering()} is enabled the requirements
+     * are tested in their {@link #requirementOrder(Target)}.
+     *
+     * @param target the target to test the requirements against
+     * @param context the context of the execution
+     * @param <TTarget> the type of the target
+     * @return the combined result of all tested requirements
+     */
     default <TTarget> CombinedResult testRequirements(Target<TTarget> target, ExecutionContext<?> context) {
-        return requirements().stream()
-                .filter(requirementContext -> requirementContext.isTargetType(target))
-                .map(requirementContext -> (RequirementContext<TTarget>) requirementContext)
-                .map(requirementContext -> requirementContext.test(target, context.next(requirementContext)))
-                .map(Result::combine)
-                .reduce(Result::combine)
-                .orElse(CombinedResult.empty());
+        ArtSettings settings = context.settings();
+        boolean adaptive = settings != null && settings.adaptiveRequirementOrdering();
+        return testRequirements(adaptive ? requirementOrder(target) : requirements(target), target, context);
+    }
+
+    /**
+     * Tests the given requirements in their order against the target.
+     * <p>If {@link ArtSettings#shortCircuitRequirements()} is enabled only {@link RequirementContext#stateful()}
+     * requirements are tested after the first requirement failed or had an error.
+     * <p>Use this to test requirements that are not kept in a holder with the same rules.
+     *
+     * @param requirements the requirements matching the target in the order they are tested
+     * @param target the target to test the requirements against
+     * @param context the context of the execution
+     * @param <TTarget> the type of the target
+     * @return the combined result of all tested requirements
+     */
+    static <TTarget> CombinedResult testRequirements(Collection<RequirementContext<?>> requirements, Target<TTarget> target, ExecutionContext<?> context) {
+        ArtSettings settings = context.settings();
+        boolean shortCircuit = settings != null && settings.shortCircuitRequirements();
+        return testRequirements(requirements, target, context, shortCircuit, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TTarget> CombinedResult testRequirements(Collection<RequirementContext<?>> requirements, Target<TTarget> target, ExecutionContext<?> context, boolean shortCircuit, boolean decided) {
+        CombinedResult result = null;
+        for (RequirementContext<?> requirement : requirements) {
+            if (decided && !requirement.stateful()) continue;
+
+            RequirementContext<TTarget> requirementContext = (RequirementContext<TTarget>) requirement;
+            Result requirementResult = context.test(requirementContext, target);
+            result = result == null ? requirementResult.combine() : result.combine(requirementResult);
+
+            if (shortCircuit && isDecided(requirementResult)) {
+                decided = true;
+            }
+        }
+        return result == null ? CombinedResult.empty() : result;
+    }
+
+    private static boolean isDecided(Result result) {
+        return result.status() == ResultStatus.FAILURE || result.status() == ResultStatus.ERROR;
     }
 }
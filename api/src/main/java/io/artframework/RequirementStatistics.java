@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import io.artframework.conf.ArtSettings;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Collects runtime statistics about the tests of a {@link RequirementContext}.
+ * <p>The statistics are used to order the requirements of a {@link RequirementHolder},
+ * so that cheap requirements that fail often are tested first.
+ * They are only collected if {@link ArtSettings#adaptiveRequirementOrdering()} is enabled.
+ * <p>Latency and pass rate are exponentially weighted moving averages that favor recent tests.
+ * Updates are not synchronized, which means concurrent tests may drop single samples.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class RequirementStatistics {
+
+    private static final double WEIGHT = 0.05;
+    private static final double MIN_FAILURE_RATE = 0.001;
+
+    /**
+     * The number of recorded tests.
+     */
+    private long count;
+    /**
+     * The average duration of a test in nanoseconds.
+     */
+    private double averageNanos;
+    /**
+     * The rate between 0 and 1 of tests that were successful.
+     */
+    private double passRate = 1.0;
+
+    /**
+     * Records the outcome of a single test.
+     *
+     * @param nanos the duration of the test in nanoseconds
+     * @param status the status of the result of the test
+     */
+    public void record(long nanos, ResultStatus status) {
+
+        double pass = status.isSuccess() ? 1.0 : 0.0;
+
+        if (count == 0) {
+            averageNanos = nanos;
+            passRate = pass;
+        } else {
+            averageNanos += WEIGHT * (nanos - averageNanos);
+            passRate += WEIGHT * (pass - passRate);
+        }
+
+        count++;
+    }
+
+    /**
+     * Gets the expected cost of testing the requirement until it fails.
+     * <p>Requirements with a lower cost should be tested first.
+     * Requirements without any recorded tests have no cost to make sure they are tested early.
+     *
+     * @return the expected cost of the requirement
+     */
+    public double cost() {
+
+        if (count == 0) return 0;
+
+        return averageNanos / Math.max(1.0 - passRate, MIN_FAILURE_RATE);
+    }
+}
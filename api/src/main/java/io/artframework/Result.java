@@ -17,10 +17,12 @@
 package io.artframework;
 
 import io.artframework.impl.DefaultResult;
+import io.artframework.impl.LazyResult;
 import lombok.NonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 /**
  * The Result wraps the result status and additional messages.
@@ -30,15 +32,33 @@ public interface Result {
 
     /**
      * Creates a new result from the given parameters using the global configuration.
+     * <p>
+     * Results without messages are shared constants and do not create a new instance.
      *
      * @param status the status of the result
      * @param messages additional messages of the result
      * @return the created result
      */
     static Result of(@NonNull ResultStatus status, @NonNull String... messages) {
+        if (messages.length == 0) {
+            return DefaultResult.of(status);
+        }
         return new DefaultResult(status, messages);
     }
 
+    /**
+     * Creates a new result with a message that is only rendered once the messages of the result are read.
+     * <p>
+     * Use this to avoid formatting messages on paths where the messages are rarely read.
+     *
+     * @param status the status of the result
+     * @param message the supplier of the message of the result
+     * @return the created result
+     */
+    static Result of(@NonNull ResultStatus status, @NonNull Supplier<String> message) {
+        return new LazyResult(status, message);
+    }
+
     /**
      * Creates a new result from the boolean parameter.
      * <code>true</code> will result in a success and <code>false</code> in a failure.
@@ -84,6 +104,17 @@ public interface Result {
         return of(ResultStatus.FAILURE, messages);
     }
 
+    /**
+     * Creates a result that is not successful with a message that is only rendered when it is read.
+     *
+     * @param message the supplier of the message of the result
+     * @return the created result
+     * @see #of(ResultStatus, Supplier)
+     */
+    static Result failure(@NonNull Supplier<String> message) {
+        return of(ResultStatus.FAILURE, message);
+    }
+
     /**
      * Creates a result that has an error.
      * You can optionally pass some messages you want to send to the user.
@@ -95,6 +126,17 @@ public interface Result {
         return of(ResultStatus.ERROR, messages);
     }
 
+    /**
+     * Creates a result that has an error with a message that is only rendered when it is read.
+     *
+     * @param message the supplier of the message of the result
+     * @return the created result
+     * @see #of(ResultStatus, Supplier)
+     */
+    static Result error(@NonNull Supplier<String> message) {
+        return of(ResultStatus.ERROR, message);
+    }
+
     /**
      * Creates a new cancelled result.
      * A result may be cancelled by events or user actions.
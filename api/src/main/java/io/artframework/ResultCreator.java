@@ -18,6 +18,8 @@ package io.artframework;
 
 import lombok.NonNull;
 
+import java.util.function.Supplier;
+
 public interface ResultCreator {
 
     /**
@@ -81,6 +83,17 @@ public interface ResultCreator {
         return Result.failure(messages);
     }
 
+    /**
+     * Creates a result that is not successful with a message that is only rendered when it is read.
+     *
+     * @param message the supplier of the message
+     * @return the created result
+     * @see Result#failure(Supplier)
+     */
+    default Result failure(@NonNull Supplier<String> message) {
+        return Result.failure(message);
+    }
+
     /**
      * Creates a result that has an error.
      * You can optionally pass some messages you want to send to the user.
@@ -93,6 +106,17 @@ public interface ResultCreator {
         return Result.error(messages);
     }
 
+    /**
+     * Creates a result that has an error with a message that is only rendered when it is read.
+     *
+     * @param message the supplier of the message
+     * @return the created result
+     * @see Result#error(Supplier)
+     */
+    default Result error(@NonNull Supplier<String> message) {
+        return Result.error(message);
+    }
+
     /**
      * Creates a result that has an error from an exception.
      * The message of the exception will automatically be included in the messages of the result.
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+/**
+ * The result sink receives the result of every executed {@link Action}.
+ * <p>Provide a result sink in the {@link Configuration} to collect metrics about
+ * executed actions. The sink is also called if the actions are executed without
+ * collecting their results, e.g. when they are executed by a {@link Trigger}.
+ * <p>The sink is called on the thread that executed the action and should return quickly.
+ */
+@FunctionalInterface
+public interface ResultSink {
+
+    /**
+     * Called after an action was executed for a target.
+     *
+     * @param result the result of the action containing the target and the action context
+     */
+    void accept(TargetResult<?, ? extends ActionContext<?>> result);
+}
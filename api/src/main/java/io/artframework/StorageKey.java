@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * The storage key identifies a value stored by the {@link StorageProvider}.
+ * <p>A key consists of the optional {@link ArtObjectContext} and {@link Target} the value belongs to
+ * and the name of the value. Keys of the same context share the parts that identify the context,
+ * which is why an {@link ArtObjectContext} only creates them once, see {@link #of(ArtObjectContext)}.
+ * <p>The hash code of the key is computed once when it is created,
+ * making it cheap to use the key in hash based storage implementations.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class StorageKey {
+
+    /**
+     * Creates a key for a global value that does not belong to a target or context.
+     *
+     * @param key the name of the value
+     * @return the storage key
+     */
+    public static StorageKey of(@NonNull String key) {
+
+        return new StorageKey(null, null, null, null, key);
+    }
+
+    /**
+     * Creates a key for a value of the given target.
+     *
+     * @param target the target the value belongs to
+     * @param key the name of the value
+     * @return the storage key
+     */
+    public static StorageKey of(@NonNull Target<?> target, @NonNull String key) {
+
+        return new StorageKey(null, null, null, target.uniqueId(), key);
+    }
+
+    /**
+     * Creates a key for a value of the given target in the given context.
+     *
+     * @param context the context the value belongs to
+     * @param target the target the value belongs to
+     * @param key the name of the value
+     * @return the storage key
+     */
+    public static StorageKey of(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull String key) {
+
+        return of(context).with(target, key);
+    }
+
+    /**
+     * Creates a key that only identifies the given context.
+     * <p>Use {@link #with(Target, String)} to create the keys of the values of the context.
+     *
+     * @param context the context the key should identify
+     * @return a key without a target and value name
+     */
+    public static StorageKey of(@NonNull ArtObjectContext<?> context) {
+
+        ArtObjectMeta<?> meta = context.meta();
+        return new StorageKey(
+                context.uniqueId(),
+                meta != null ? meta.artObjectClass().getCanonicalName() : null,
+                context.storageKey(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * Creates a key from its parts, e.g. when reading stored values back from a database.
+     *
+     * @param context the unique id of the context or null
+     * @param contextType the class name of the art object of the context or null
+     * @param storageKey the storage key of the context or null
+     * @param target the unique id of the target or null
+     * @param key the name of the value
+     * @return the storage key
+     */
+    public static StorageKey of(@Nullable String context, @Nullable String contextType, @Nullable String storageKey,
+                                @Nullable String target, @NonNull String key) {
+
+        return new StorageKey(context, contextType, storageKey, target, key);
+    }
+
+    /**
+     * The unique id of the context the value belongs to.
+     */
+    @Nullable
+    private final String context;
+    /**
+     * The class name of the art object of the context.
+     * <p>The type is informational and not part of the identity of the key.
+     */
+    @Nullable
+    private final String contextType;
+    /**
+     * The storage key of the load operation that created the context.
+     *
+     * @see ArtObjectContext#storageKey()
+     */
+    @Nullable
+    private final String storageKey;
+    /**
+     * The unique id of the target the value belongs to.
+     */
+    @Nullable
+    private final String target;
+    /**
+     * The name of the value.
+     */
+    @Nullable
+    private final String key;
+    private final int hash;
+
+    private StorageKey(@Nullable String context, @Nullable String contextType, @Nullable String storageKey, @Nullable String target, @Nullable String key) {
+        this.context = context;
+        this.contextType = contextType;
+        this.storageKey = storageKey;
+        this.target = target;
+        this.key = key;
+        // combined by hand to not allocate a varargs array for every key
+        int hash = Objects.hashCode(context);
+        hash = 31 * hash + Objects.hashCode(storageKey);
+        hash = 31 * hash + Objects.hashCode(target);
+        hash = 31 * hash + Objects.hashCode(key);
+        this.hash = hash;
+    }
+
+    /**
+     * Creates a new key for the value of the given target that shares the context of this key.
+     *
+     * @param target the target the value belongs to
+     * @param key the name of the value
+     * @return the new storage key
+     */
+    public StorageKey with(@NonNull Target<?> target, @NonNull String key) {
+
+        return new StorageKey(context, contextType, storageKey, target.uniqueId(), key);
+    }
+
+    /**
+     * @return true if the key belongs to an {@link ArtObjectContext}
+     */
+    public boolean hasContext() {
+
+        return context != null;
+    }
+
+    /**
+     * @return true if the key belongs to a {@link Target}
+     */
+    public boolean hasTarget() {
+
+        return target != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StorageKey)) return false;
+
+        StorageKey that = (StorageKey) o;
+        return hash == that.hash
+                && Objects.equals(key, that.key)
+                && Objects.equals(target, that.target)
+                && Objects.equals(context, that.context)
+                && Objects.equals(storageKey, that.storageKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns the key as a single string, e.g. for storage implementations that store all values by a string key.
+     *
+     * @return the string representation of the key
+     */
+    @Override
+    public String toString() {
+
+        if (hasContext()) {
+            return context + "#" + storageKey + "#" + target + "#" + key;
+        }
+        if (hasTarget()) {
+            return "target#" + target + "#" + key;
+        }
+        return key;
+    }
+}
@@ -21,6 +21,7 @@ import lombok.NonNull;
 
 import javax.annotation.Nullable;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 /**
  * Use the storage to set and get data for a given {@link Target} and/or {@link Context}.
@@ -30,6 +31,9 @@ import java.util.Optional;
  * You can store any object that can be serialized into a JSON object.
  * You should try to keep the objects you store simple and primitive values at best.
  *
+ * Implementations must be safe to use from multiple threads,
+ * because actions and triggers may be executed asynchronously.
+ *
  * There are also convenience methods on the {@link Context} to set and get data.
  * These methods just delegate to the implementing storage provider.
  * <p>
@@ -74,6 +78,154 @@ public interface StorageProvider extends Scoped, AutoCloseable {
      */
     <TValue> Optional<TValue> set(@NonNull String key, @NonNull TValue value);
 
+    /**
+     * Stores a value under the given structured storage key and returns any value that was already stored.
+     * <p>Storage providers should override this method and index their values by the {@link StorageKey}
+     * to avoid building a string key for every access.
+     * The default implementation delegates to {@link #set(String, Object)} using the string representation of the key.
+     *
+     * @param key the key to store the value under
+     * @param value the value to store
+     * @param <TValue> type of the value
+     * @return existing value if it exists and is of the same type otherwise an empty {@link Optional}
+     */
+    default <TValue> Optional<TValue> set(@NonNull StorageKey key, @NonNull TValue value) {
+        return set(key.toString(), value);
+    }
+
+    /**
+     * Stores a value under the given structured storage key that expires after the given time.
+     * <p>Expired values are treated as if they were never stored and may be removed from the storage.
+     * Storage providers that cannot expire values keep them like any other value,
+     * which is also what the default implementation does.
+     *
+     * @param key the key to store the value under
+     * @param value the value to store
+     * @param ttl the time in milliseconds after which the value expires. zero or less never expires.
+     * @param <TValue> type of the value
+     * @return existing value if it exists and is of the same type otherwise an empty {@link Optional}
+     */
+    default <TValue> Optional<TValue> set(@NonNull StorageKey key, @NonNull TValue value, long ttl) {
+        return set(key, value);
+    }
+
+    /**
+     * Atomically computes a new value from the value stored under the given key.
+     * <p>The function receives the current value or null if no value of the given type exists.
+     * If the function returns null the stored value is left unchanged.
+     * <p>The default implementation synchronizes on the storage provider
+     * and is only atomic in relation to other calls of this method.
+     *
+     * @param key the key of the value
+     * @param valueClass class of the value
+     * @param function the function that computes the new value from the current value
+     * @param <TValue> type of the value
+     * @return the new value or an empty {@link Optional} if the function returned null
+     */
+    default <TValue> Optional<TValue> compute(@NonNull StorageKey key, @NonNull Class<TValue> valueClass, @NonNull UnaryOperator<TValue> function) {
+        synchronized (this) {
+            TValue value = function.apply(get(key, valueClass).orElse(null));
+            if (value != null) set(key, value);
+            return Optional.ofNullable(value);
+        }
+    }
+
+    /**
+     * Gets the counter stored under the given key.
+     * <p>Counters and timestamps are the most frequently accessed values of the storage,
+     * e.g. the execution count and the last execution of actions and triggers.
+     * Storage providers should override the counter and timestamp methods and store the values as primitives.
+     *
+     * @param key the key of the counter
+     * @return the value of the counter or zero if no counter is stored under the key
+     */
+    default int count(@NonNull StorageKey key) {
+        return get(key, Integer.class).orElse(0);
+    }
+
+    /**
+     * Adds the given delta to the counter stored under the given key.
+     * <p>The counter starts at zero if it does not exist.
+     * The default implementation is not atomic, see {@link #count(StorageKey)}.
+     *
+     * @param key the key of the counter
+     * @param delta the value to add to the counter
+     * @return the new value of the counter
+     */
+    default int increment(@NonNull StorageKey key, int delta) {
+        int value = count(key) + delta;
+        set(key, value);
+        return value;
+    }
+
+    /**
+     * Gets the timestamp stored under the given key.
+     *
+     * @param key the key of the timestamp
+     * @return the timestamp in milliseconds or zero if no timestamp is stored under the key
+     * @see #count(StorageKey)
+     */
+    default long timestamp(@NonNull StorageKey key) {
+        return get(key, Long.class).orElse(0L);
+    }
+
+    /**
+     * Stores the timestamp under the given key.
+     *
+     * @param key the key of the timestamp
+     * @param timestamp the timestamp in milliseconds
+     * @return the previously stored timestamp or zero if no timestamp was stored
+     */
+    default long timestamp(@NonNull StorageKey key, long timestamp) {
+        return set(key, timestamp).orElse(0L);
+    }
+
+    /**
+     * Stores the timestamp under the given key and lets it expire after the given time.
+     * <p>Use this for timestamps that are only relevant for a limited time, e.g. the last execution of a cooldown.
+     *
+     * @param key the key of the timestamp
+     * @param timestamp the timestamp in milliseconds
+     * @param ttl the time in milliseconds after which the timestamp expires. zero or less never expires.
+     * @return the previously stored timestamp or zero if no timestamp was stored
+     * @see #set(StorageKey, Object, long)
+     */
+    default long timestamp(@NonNull StorageKey key, long timestamp, long ttl) {
+        return set(key, timestamp, ttl).orElse(0L);
+    }
+
+    /**
+     * Stores the timestamp under the given key only if the currently stored timestamp equals the expected value.
+     * <p>Use this to claim an execution that depends on the last execution, e.g. for cooldowns.
+     * A missing timestamp is treated as zero.
+     * The default implementation is not atomic, see {@link #count(StorageKey)}.
+     *
+     * @param key the key of the timestamp
+     * @param expected the timestamp that is expected to be stored
+     * @param timestamp the new timestamp in milliseconds
+     * @return true if the timestamp was updated, false if the stored timestamp was not the expected one
+     */
+    default boolean compareAndSetTimestamp(@NonNull StorageKey key, long expected, long timestamp) {
+        return compareAndSetTimestamp(key, expected, timestamp, 0);
+    }
+
+    /**
+     * Stores the timestamp under the given key only if the currently stored timestamp equals the expected value
+     * and lets it expire after the given time. An expired timestamp is treated as zero.
+     *
+     * @param key the key of the timestamp
+     * @param expected the timestamp that is expected to be stored
+     * @param timestamp the new timestamp in milliseconds
+     * @param ttl the time in milliseconds after which the timestamp expires. zero or less never expires.
+     * @return true if the timestamp was updated, false if the stored timestamp was not the expected one
+     * @see #compareAndSetTimestamp(StorageKey, long, long)
+     */
+    default boolean compareAndSetTimestamp(@NonNull StorageKey key, long expected, long timestamp, long ttl) {
+        if (timestamp(key) != expected) return false;
+        timestamp(key, timestamp, ttl);
+        return true;
+    }
+
     /**
      * Stores a value for the given {@link Target}.
      * <p>Will override any existing value that has the same key
@@ -88,7 +240,7 @@ public interface StorageProvider extends Scoped, AutoCloseable {
      * @see #set(String, Object)
      */
     default <TValue> Optional<TValue> set(@NonNull Target<?> target, @NonNull String key, @NonNull TValue value) {
-        return set("target#" + target.uniqueId() + "#" + key, value);
+        return set(StorageKey.of(target, key), value);
     }
 
     /**
@@ -105,7 +257,7 @@ public interface StorageProvider extends Scoped, AutoCloseable {
      */
     default <TValue> Optional<TValue> set(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull String key, TValue value) {
 
-        return set(context.uniqueId() + "#" + context.storageKey() + "#" + target.uniqueId() + "#" + key, value);
+        return set(StorageKey.of(context, target, key), value);
     }
 
     /**
@@ -135,6 +287,20 @@ public interface StorageProvider extends Scoped, AutoCloseable {
      */
     <TValue> Optional<TValue> get(@NonNull String key, @NonNull Class<TValue> valueClass);
 
+    /**
+     * Retrieves a value stored under the given structured storage key.
+     * <p>The default implementation delegates to {@link #get(String, Class)} using the string representation of the key.
+     *
+     * @param key the key the value is stored under
+     * @param valueClass class of the value
+     * @param <TValue> type of the value
+     * @return stored value or empty result if the value does not exist or cannot be cast into the value type.
+     * @see #set(StorageKey, Object)
+     */
+    default <TValue> Optional<TValue> get(@NonNull StorageKey key, @NonNull Class<TValue> valueClass) {
+        return get(key.toString(), valueClass);
+    }
+
     /**
      * Retrieves a value stored for the given target.
      * Will return the default value of the type or an empty {@link Optional} if the storage
@@ -147,7 +313,7 @@ public interface StorageProvider extends Scoped, AutoCloseable {
      * @return stored value or empty result if the value does not exist or cannot be cast into the value type
      */
     default <TValue> Optional<TValue> get(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass) {
-        return get("target#" + target.uniqueId() + "#" + key, valueClass);
+        return get(StorageKey.of(target, key), valueClass);
     }
 
     /**
@@ -163,6 +329,6 @@ public interface StorageProvider extends Scoped, AutoCloseable {
      * @return stored value or empty result if the value does not exist or cannot be cast into the value type
      */
     default <TValue> Optional<TValue> get(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass) {
-        return get(context.uniqueId() + "#" + context.storageKey() + "#" + target.uniqueId() + "#" + key, valueClass);
+        return get(StorageKey.of(context, target, key), valueClass);
     }
 }
@@ -6,6 +6,13 @@ import lombok.experimental.Accessors;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Builder for a single execution of a {@link Trigger} that collects the targets of the trigger.
+ * <p>Executions of triggers without any registered {@link TriggerContext} skip all work,
+ * e.g. wrapping the targets, see {@link TriggerProvider#hasListeners(Class)}.
+ *
+ * @param <TTrigger> the type of the trigger
+ */
 @Accessors(fluent = true)
 public final class TriggerExecution<TTrigger extends Trigger> implements Scoped, TargetCreator {
 
@@ -18,13 +25,15 @@ public final class TriggerExecution<TTrigger extends Trigger> implements Scoped,
     private final Scope scope;
     @Getter
     private final Class<TTrigger> triggerClass;
-    private final List<Target<?>> targets = new ArrayList<>();
+    private final boolean listening;
+    private List<Target<?>> targets;
     @Getter
     private boolean executed = false;
 
     TriggerExecution(Scope scope, Class<TTrigger> triggerClass) {
         this.scope = scope;
         this.triggerClass = triggerClass;
+        this.listening = scope.configuration().trigger().hasListeners(triggerClass);
     }
 
     /**
@@ -32,6 +41,8 @@ public final class TriggerExecution<TTrigger extends Trigger> implements Scoped,
      */
     public Target<?>[] targets() {
 
+        if (targets == null) return new Target<?>[0];
+
         return targets.toArray(new Target[0]);
     }
 
@@ -49,6 +60,11 @@ public final class TriggerExecution<TTrigger extends Trigger> implements Scoped,
      */
     public <TTarget> TriggerExecution<TTrigger> with(TTarget target) {
 
+        if (!listening) return this;
+
+        if (targets == null) {
+            targets = new ArrayList<>();
+        }
         target(target).ifPresent(targets::add);
         return this;
     }
@@ -65,6 +81,10 @@ public final class TriggerExecution<TTrigger extends Trigger> implements Scoped,
             throw new UnsupportedOperationException("This trigger execution was already called. You can only call a trigger once and need to create a new instance for every call.");
         }
 
+        executed = true;
+
+        if (!listening) return;
+
         scope().configuration().trigger().execute(this);
     }
 }
@@ -98,6 +98,16 @@ public interface TriggerProvider extends ArtProvider, FactoryProvider<TriggerFac
      */
     void unregisterAll();
 
+    /**
+     * Checks if any {@link TriggerContext} is registered for the given trigger class.
+     * <p>Use this to skip all work of a trigger bridge, e.g. an event listener, if nobody listens to the trigger.
+     * The check does not allocate and is a constant time lookup after the first call for a trigger class.
+     *
+     * @param triggerClass the class of the trigger
+     * @return true if at least one trigger context is registered for the trigger
+     */
+    boolean hasListeners(@NonNull Class<? extends Trigger> triggerClass);
+
     /**
      * Executes the given trigger execution calling all registered trigger context listeners
      * for the trigger of the execution.
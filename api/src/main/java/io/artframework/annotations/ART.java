@@ -71,4 +71,43 @@ public @interface ART {
      * @return true if this art-object should be automatically registered with the provider
      */
     boolean autoRegister() default true;
+
+    /**
+     * Set to true if the instance of your action, requirement or trigger keeps no fields other than its config
+     * and can be executed by multiple threads at the same time.
+     * <p>
+     * Shareable art objects are created only once per art context if their config does not depend
+     * on the target, e.g. <code>?permission foo.bar</code>, and are then reused for every execution.
+     * Otherwise a new instance is created for every execution.
+     * <p>
+     * This says nothing about side effects: a shareable requirement may still store data for its target.
+     * Use {@link #stateful()} to mark those requirements.
+     *
+     * @return true if instances of this art object can be reused
+     */
+    boolean shareable() default false;
+
+    /**
+     * Set to true if testing your requirement has side effects, e.g. storing a counter for the target.
+     * <p>
+     * Stateful requirements are always tested, even if the outcome was already decided by another requirement.
+     * They keep their position when requirements are reordered and their results are never memoized or cached.
+     *
+     * @return true if testing the requirement changes state
+     * @see io.artframework.RequirementContext#stateful()
+     */
+    boolean stateful() default false;
+
+    /**
+     * Set to false if executing your action does not change anything requirements are tested against,
+     * e.g. sending a message to the target.
+     * <p>
+     * By default the memoized requirement results of the execution are discarded after every action,
+     * so that the requirements of nested and following actions are tested again.
+     * This has no effect on requirements and triggers.
+     *
+     * @return true if the requirements must be tested again after the action was executed
+     * @see io.artframework.ExecutionContext#invalidateRequirements()
+     */
+    boolean invalidatesRequirements() default true;
 }
@@ -18,6 +18,8 @@ package io.artframework.conf;
 
 import io.artframework.Action;
 import io.artframework.ArtContext;
+import io.artframework.Requirement;
+import io.artframework.RequirementContext;
 import io.artframework.Trigger;
 import io.artframework.TriggerListener;
 import io.artframework.annotations.ConfigOption;
@@ -64,4 +66,43 @@ public class ArtSettings extends SettingsBase {
      */
     @Builder.Default
     private boolean executeActions = true;
+
+    /**
+     * Set to true to stop testing the {@link Requirement}s of an {@link ArtContext}, action or trigger
+     * as soon as the first requirement failed or had an error.
+     * Defaults to false.
+     * <p>
+     * Requirements that keep state between tests, e.g. a requirement with a count or the check once option,
+     * are always tested to keep their state consistent.
+     *
+     * @see RequirementContext#stateful()
+     */
+    @Builder.Default
+    private boolean shortCircuitRequirements = false;
+
+    /**
+     * Set to true to collect latency and pass rate statistics of every tested {@link Requirement}
+     * and use them to test cheap and frequently failing requirements first.
+     * Defaults to false.
+     * <p>
+     * Only requirements without side effects are reordered, {@link RequirementContext#stateful()} requirements
+     * keep their configured position. Combine this with {@link #shortCircuitRequirements()}
+     * to skip expensive requirements once a cheap requirement failed.
+     *
+     * @see io.artframework.RequirementStatistics
+     */
+    @Builder.Default
+    private boolean adaptiveRequirementOrdering = false;
+
+    /**
+     * Set to true to execute the {@link Action}s of the {@link ArtContext} without collecting their results.
+     * Defaults to false.
+     * <p>
+     * Direct executions of the art context will then return an empty result and skip
+     * building the result tree of all actions and their nested actions.
+     * Use a {@link io.artframework.ResultSink} if you need to observe the results of the actions.
+     * Actions executed by a {@link Trigger} never collect their results, because nobody can read them.
+     */
+    @Builder.Default
+    private boolean fireAndForget = false;
 }
@@ -34,6 +34,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Accessors(fluent = true)
 @EqualsAndHashCode
@@ -45,6 +46,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
     private final String[] description;
     private final String[] alias;
     private final boolean autoRegister;
+    private final boolean shareable;
+    private final boolean stateful;
+    private final boolean invalidatesRequirements;
     private final Class<?> configClass;
     private final Class<?> targetClass;
     private final Map<String, ConfigFieldInformation> configMap;
@@ -59,6 +63,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
             @NonNull String[] description,
             @NonNull String[] alias,
             boolean autoRegister,
+            boolean shareable,
+            boolean stateful,
+            boolean invalidatesRequirements,
             @Nullable Class<?> configClass,
             @NonNull Class<?> targetClass,
             @NonNull Map<String, ConfigFieldInformation> configMap,
@@ -68,6 +75,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         this.description = description;
         this.alias = alias;
         this.autoRegister = autoRegister;
+        this.shareable = shareable;
+        this.stateful = stateful;
+        this.invalidatesRequirements = invalidatesRequirements;
         this.configClass = configClass;
         this.targetClass = targetClass;
         this.configMap = configMap;
@@ -86,6 +96,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         this.description = new String[0];
         this.alias = new String[0];
         this.autoRegister = false;
+        this.shareable = false;
+        this.stateful = false;
+        this.invalidatesRequirements = true;
         this.configClass = null;
         this.targetClass = null;
         this.configMap = new HashMap<>();
@@ -106,6 +119,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         this.description = new String[0];
         this.alias = new String[0];
         this.autoRegister = false;
+        this.shareable = false;
+        this.stateful = false;
+        this.invalidatesRequirements = true;
         this.configClass = null;
         this.targetClass = targetClass;
         this.configMap = new HashMap<>();
@@ -145,6 +161,30 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         return autoRegister;
     }
 
+    @Override
+    public boolean shareable() {
+        if (!this.initialized()) {
+            throw new UnsupportedOperationException("You must initialize() the ArtObjectInformation object before you can use it!");
+        }
+        return shareable;
+    }
+
+    @Override
+    public boolean stateful() {
+        if (!this.initialized()) {
+            throw new UnsupportedOperationException("You must initialize() the ArtObjectInformation object before you can use it!");
+        }
+        return stateful;
+    }
+
+    @Override
+    public boolean invalidatesRequirements() {
+        if (!this.initialized()) {
+            throw new UnsupportedOperationException("You must initialize() the ArtObjectInformation object before you can use it!");
+        }
+        return invalidatesRequirements;
+    }
+
     @Override
     public Optional<Class<?>> configClass() {
         if (!this.initialized()) {
@@ -207,6 +247,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
             Class<?> targetClass = tryGetTargetClass();
             Class<?> configClass = findConfigClass();
             boolean autoRegister = tryGetAutoRegister();
+            boolean shareable = tryGetShareable();
+            boolean stateful = tryGetStateful();
+            boolean invalidatesRequirements = tryGetInvalidatesRequirements();
             ArtObjectProvider<TArtObject> provider = tryGetArtObjectProvider();
             Map<String, ConfigFieldInformation> configMap = tryGetConfigMap(configClass);
 
@@ -225,7 +268,7 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
                 identifier = sourceModule.get().prefix() + ":" + identifier;
             }
 
-            return new DefaultArtObjectMeta<>(artObjectClass, identifier, description, alias, autoRegister, configClass, targetClass, configMap, provider);
+            return new DefaultArtObjectMeta<>(artObjectClass, identifier, description, alias, autoRegister, shareable, stateful, invalidatesRequirements, configClass, targetClass, configMap, provider);
         } catch (ConfigurationException e) {
             throw new ArtMetaDataException(ArtObjectError.of(e.getMessage(), ArtObjectError.Reason.INVALID_CONFIG, artObjectClass()), e);
         }
@@ -247,6 +290,18 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         return getAnnotation().map(ART::autoRegister).orElse(true);
     }
 
+    private boolean tryGetShareable() {
+        return getAnnotation().map(ART::shareable).orElse(false);
+    }
+
+    private boolean tryGetStateful() {
+        return getAnnotation().map(ART::stateful).orElse(false);
+    }
+
+    private boolean tryGetInvalidatesRequirements() {
+        return getAnnotation().map(ART::invalidatesRequirements).orElse(true);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Class<?> findConfigClass() throws ArtMetaDataException {
         Class configClass = ReflectionUtil.getInterfaceTypeArgument(artObjectClass, Configurable.class, 0).orElse(artObjectClass);
@@ -306,17 +361,11 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         if (artObjectProvider != null) return artObjectProvider;
 
         try {
-            Constructor<TArtObject> constructor = artObjectClass().getDeclaredConstructor();
-            constructor.newInstance();
-            return () -> {
-                try {
-                    return constructor.newInstance();
-                } catch (InstantiationException | IllegalAccessException | InvocationTargetException ignored) {
-                    // we know this works since we tested it above
-                    return null;
-                }
-            };
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException e) {
+            Supplier<TArtObject> constructor = ReflectionUtil.getConstructorSupplier(artObjectClass());
+            // make sure the art object can be created before handing out the provider
+            constructor.get();
+            return constructor::get;
+        } catch (ReflectiveOperationException | RuntimeException e) {
             throw new ArtMetaDataException(ArtObjectError.of(e.getMessage(), ArtObjectError.Reason.INVALID_CONSTRUCTOR, artObjectClass()), e);
         }
     }
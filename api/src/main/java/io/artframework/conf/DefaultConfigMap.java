@@ -21,17 +21,17 @@ import com.google.common.collect.ImmutableMap;
 import io.artframework.*;
 import io.artframework.impl.ReplacementContext;
 import io.artframework.parser.ConfigParser;
+import io.artframework.util.ConfigBinder;
 import io.artframework.util.ReflectionUtil;
+import io.artframework.util.StringTemplate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
 import lombok.experimental.Accessors;
 import lombok.extern.java.Log;
-import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -44,17 +44,71 @@ public class DefaultConfigMap implements ConfigMap {
     Map<String, ConfigFieldInformation> configFields;
     List<ConfigValue> configValues;
     boolean loaded;
+    @Getter(AccessLevel.NONE)
+    boolean staticValues;
+    // precompiled templates of all string values that contain a placeholder
+    @Getter(AccessLevel.NONE)
+    Map<String, StringTemplate> templates;
 
     public DefaultConfigMap(Map<String, ConfigFieldInformation> configFields) {
         this.configFields = ImmutableMap.copyOf(configFields);
         this.configValues = new ArrayList<>();
         this.loaded = false;
+        this.staticValues = true;
+        this.templates = ImmutableMap.of();
     }
 
     DefaultConfigMap(Map<String, ConfigFieldInformation> configFields, List<ConfigValue> configValues) {
         this.configFields = ImmutableMap.copyOf(configFields);
         this.configValues = ImmutableList.copyOf(configValues);
         this.loaded = true;
+        this.staticValues = this.configValues.stream().allMatch(DefaultConfigMap::isStatic);
+        this.templates = compileTemplates(this.configValues);
+    }
+
+    private static Map<String, StringTemplate> compileTemplates(List<ConfigValue> configValues) {
+
+        Map<String, StringTemplate> templates = new HashMap<>();
+        for (ConfigValue configValue : configValues) {
+            Object value = configValue.value();
+            if (value instanceof String) {
+                compileTemplate((String) value, templates);
+            } else if (value instanceof String[]) {
+                for (String element : (String[]) value) {
+                    compileTemplate(element, templates);
+                }
+            }
+        }
+
+        return ImmutableMap.copyOf(templates);
+    }
+
+    private static void compileTemplate(@Nullable String value, Map<String, StringTemplate> templates) {
+
+        if (value == null || templates.containsKey(value)) return;
+
+        StringTemplate template = StringTemplate.compile(value);
+        if (!template.constant()) {
+            templates.put(value, template);
+        }
+    }
+
+    private static boolean isStatic(ConfigValue configValue) {
+
+        Object value = configValue.value();
+        if (value instanceof String) {
+            return !configValue.field().resolve() && !((String) value).contains(Replacement.PLACEHOLDER_PREFIX);
+        }
+        if (value instanceof String[]) {
+            return !configValue.field().resolve() && Arrays.stream((String[]) value)
+                    .noneMatch(element -> element != null && element.contains(Replacement.PLACEHOLDER_PREFIX));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return staticValues;
     }
 
     @Override
@@ -68,19 +122,39 @@ public class DefaultConfigMap implements ConfigMap {
         if (!loaded()) return this;
 
         ArrayList<ConfigValue> resolvedValues = new ArrayList<>();
+        // only values that contain a placeholder are replaced, which means the context is only created if needed
+        // unless a replacement is registered that may replace any value
+        ReplacementProvider replacements = scope.configuration().replacements();
+        boolean placeholderOnly = replacements.placeholderOnly();
+        ReplacementContext replacementContext = null;
         for (ConfigValue configValue : configValues()) {
 
-            ReplacementContext replacementContext = new ReplacementContext(scope, target, context);
-            if (configValue.field().type().isArray()) {
-                if (configValue.field().type().isArray() && String.class.isAssignableFrom(configValue.field().type().getComponentType())) {
-                    String[] values = (String[]) configValue.value();
-                    for (int i = 0; i < values.length; i++) {
-                        values[i] = scope.configuration().replacements().replace(values[i], replacementContext);
-                    }
-                    configValue = configValue.withValue(values);
+            if (configValue.value() instanceof String[]) {
+                String[] values = (String[]) configValue.value();
+                String[] replacedValues = null;
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == null) continue;
+                    StringTemplate template = templates.get(values[i]);
+                    if (template == null && placeholderOnly) continue;
+
+                    if (replacementContext == null) replacementContext = new ReplacementContext(scope, target, context);
+                    // copy the values to keep the placeholders of this config map for the next resolution
+                    if (replacedValues == null) replacedValues = values.clone();
+                    replacedValues[i] = template != null
+                            ? replacements.replace(template, replacementContext)
+                            : replacements.replace(values[i], replacementContext);
+                }
+                if (replacedValues != null) {
+                    configValue = configValue.withValue(replacedValues);
                 }
             } else if (configValue.value() instanceof String) {
-                configValue = configValue.withValue(scope.configuration().replacements().replace(String.valueOf(configValue.value()), replacementContext));
+                StringTemplate template = templates.get(configValue.value());
+                if (template != null || !placeholderOnly) {
+                    if (replacementContext == null) replacementContext = new ReplacementContext(scope, target, context);
+                    configValue = configValue.withValue(template != null
+                            ? replacements.replace(template, replacementContext)
+                            : replacements.replace((String) configValue.value(), replacementContext));
+                }
             }
 
             ConfigValue finalConfigValue = configValue;
@@ -145,34 +219,16 @@ public class DefaultConfigMap implements ConfigMap {
     private void setConfigField(Object config, ConfigValue value) {
 
         try {
-            if (value.field().identifier().contains(".")) {
-                // handle nested config objects
-                String nestedIdentifier = StringUtils.substringBefore(value.field().identifier(), ".");
-                Field parentField = ReflectionUtil.getDeclaredField(config.getClass(), nestedIdentifier)
-                        .orElse(null);
-                if (parentField == null) {
-                    throw new NoSuchFieldException("No field with the name " + nestedIdentifier + " found in: " + config);
-                }
-
-                parentField.setAccessible(true);
-                Object nestedConfigObject = parentField.get(config);
-                if (nestedConfigObject == null) {
-                    nestedConfigObject = parentField.getType().getConstructor().newInstance();
-                    parentField.set(config, nestedConfigObject);
-                }
-
-                setConfigField(nestedConfigObject, value.withIdentifier(StringUtils.substringAfter(value.field().identifier(), ".")));
-            } else {
-                Field field = ReflectionUtil.getDeclaredField(config.getClass(), value.field().name())
-                        .orElse(null);
-                if (field == null) {
-                    throw new NoSuchFieldException("No field with the name " + value.field().name() + " found in: " + config);
-                }
-
-                field.setAccessible(true);
-                field.set(config, value.value());
+            // walk down the nested config objects, e.g. the "options" object of "options.foo"
+            String identifier = value.field().identifier();
+            int index;
+            while ((index = identifier.indexOf('.')) >= 0) {
+                config = ConfigBinder.of(config.getClass()).nested(config, identifier.substring(0, index));
+                identifier = identifier.substring(index + 1);
             }
-        } catch (NoSuchFieldException | IllegalAccessException | NoSuchMethodException | InvocationTargetException | InstantiationException e) {
+
+            ConfigBinder.of(config.getClass()).set(config, value.field().name(), value.value());
+        } catch (ReflectiveOperationException e) {
             e.printStackTrace();
         }
     }
@@ -21,6 +21,7 @@ import io.artframework.ConfigurationException;
 import io.artframework.Scope;
 import io.artframework.annotations.ConfigOption;
 import io.artframework.util.ConfigUtil;
+import io.artframework.util.TimeUtil;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.Accessors;
@@ -79,5 +80,22 @@ public class RequirementConfig extends ArtObjectConfig {
             "This will have the effect that a requirement that was true once will always be true in the future."
     })
     protected boolean checkOnce;
+
+    @ConfigOption(description = {
+            "Caches the result of the requirement for each target for the given time.",
+            "Use this for expensive requirements that rarely change their result, e.g. permission checks.",
+            "The cache is ignored if a count is set or the requirement is only checked once.",
+            TimeUtil.TIME_DESC
+    })
+    protected String cache = "0s";
+
+    /**
+     * The time in milliseconds the result of the requirement is cached for a target.
+     *
+     * @return cache duration in milliseconds
+     */
+    public long cache() {
+        return TimeUtil.parseTimeAsMilliseconds(cache);
+    }
 }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.RequirementContext;
+import io.artframework.RequirementStatistics;
+import io.artframework.Target;
+import io.artframework.util.TargetClassIndex;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an order of the requirements of a holder per target class that is sorted
+ * by the {@link RequirementStatistics#cost()} of the requirements.
+ * <p>The order is refreshed every {@link #REORDER_INTERVAL} lookups of a target class.
+ * {@link RequirementContext#stateful()} requirements always keep their original position,
+ * only the requirements without side effects are moved between them.
+ */
+final class AdaptiveRequirementOrder {
+
+    static final int REORDER_INTERVAL = 128;
+
+    private final TargetClassIndex<RequirementContext<?>> index;
+    // not a ClassValue, the slots reference the requirements and must not be attached to the target classes
+    private volatile Map<Class<?>, Slot> slots = new ConcurrentHashMap<>();
+
+    AdaptiveRequirementOrder(TargetClassIndex<RequirementContext<?>> index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the current order of the requirements matching the given target.
+     *
+     * @param target the target to get the requirements for
+     * @return the requirements in the order they should be tested
+     */
+    List<RequirementContext<?>> get(Target<?> target) {
+
+        Slot slot = slots.computeIfAbsent(target.source().getClass(), type -> new Slot(index.get(type)));
+        if (++slot.lookups % REORDER_INTERVAL == 0) {
+            slot.order = sort(slot.order);
+        }
+        return slot.order;
+    }
+
+    /**
+     * Discards the current order of all target classes.
+     * <p>Must be called after the underlying {@link TargetClassIndex} was invalidated.
+     */
+    void invalidate() {
+
+        this.slots = new ConcurrentHashMap<>();
+    }
+
+    static List<RequirementContext<?>> sort(List<RequirementContext<?>> requirements) {
+
+        if (requirements.size() < 2) return requirements;
+
+        List<RequirementContext<?>> free = new ArrayList<>(requirements.size());
+        for (RequirementContext<?> requirement : requirements) {
+            if (!requirement.stateful()) {
+                free.add(requirement);
+            }
+        }
+        free.sort(Comparator.comparingDouble(AdaptiveRequirementOrder::cost));
+
+        List<RequirementContext<?>> result = new ArrayList<>(requirements.size());
+        Iterator<RequirementContext<?>> freeIterator = free.iterator();
+        for (RequirementContext<?> requirement : requirements) {
+            result.add(requirement.stateful() ? requirement : freeIterator.next());
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    private static double cost(RequirementContext<?> requirement) {
+
+        return requirement.statistics().map(RequirementStatistics::cost).orElse(0d);
+    }
+
+    private static final class Slot {
+
+        private volatile List<RequirementContext<?>> order;
+        private int lookups;
+
+        private Slot(List<RequirementContext<?>> order) {
+            this.order = order;
+        }
+    }
+}
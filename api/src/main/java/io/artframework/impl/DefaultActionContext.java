@@ -19,6 +19,7 @@ package io.artframework.impl;
 import io.artframework.*;
 import io.artframework.conf.ActionConfig;
 import io.artframework.conf.Constants;
+import io.artframework.util.TargetClassIndex;
 import io.artframework.util.TimeUtil;
 import lombok.Getter;
 import lombok.NonNull;
@@ -27,7 +28,9 @@ import lombok.extern.java.Log;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The action context is created for every unique {@link Action} configuration.
@@ -46,11 +49,18 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
     private final ActionFactory<TTarget> factory;
     @Getter
     private final ConfigMap artObjectConfig;
+    // configs that do not depend on the target are resolved once when the context is created
+    private final ConfigMap resolvedConfig;
+    // shareable actions with a static config are only created once
+    private volatile Action<TTarget> staticAction;
 
     @Getter
     private final List<ActionContext<?>> actions = new ArrayList<>();
     @Getter
     private final List<RequirementContext<?>> requirements = new ArrayList<>();
+    private final TargetClassIndex<ActionContext<?>> actionIndex = new TargetClassIndex<>(this::actions);
+    private final TargetClassIndex<RequirementContext<?>> requirementIndex = new TargetClassIndex<>(this::requirements);
+    private final AdaptiveRequirementOrder requirementOrder = new AdaptiveRequirementOrder(requirementIndex);
 
     public DefaultActionContext(
             @NonNull Scope scope,
@@ -61,6 +71,7 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
         this.config = config;
         this.factory = factory;
         this.artObjectConfig = artObjectConfig;
+        this.resolvedConfig = artObjectConfig.isStatic(scope) ? artObjectConfig.resolve(scope, null, null) : null;
         this.action = null;
     }
 
@@ -71,25 +82,55 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
         this.config = config;
         this.factory = null;
         this.artObjectConfig = null;
+        this.resolvedConfig = null;
     }
 
     public Action<TTarget> action(Target<TTarget> target, ExecutionContext<ActionContext<TTarget>> context) {
 
-        if (action != null) {
-            return action;
-        } else {
+        if (action != null) return action;
+
+        if (resolvedConfig == null) {
             return factory().create(artObjectConfig().resolve(scope(), target, context));
         }
+
+        if (!meta().shareable()) {
+            return factory().create(resolvedConfig);
+        }
+
+        Action<TTarget> action = staticAction;
+        if (action == null) {
+            action = factory().create(resolvedConfig);
+            staticAction = action;
+        }
+        return action;
     }
 
     @Override
     public void addAction(ActionContext<?> action) {
         this.actions.add(action);
+        this.actionIndex.invalidate();
     }
 
     @Override
     public final void addRequirement(RequirementContext<?> requirement) {
         this.requirements.add(requirement);
+        this.requirementIndex.invalidate();
+        this.requirementOrder.invalidate();
+    }
+
+    @Override
+    public Collection<ActionContext<?>> actions(Target<?> target) {
+        return actionIndex.get(target);
+    }
+
+    @Override
+    public Collection<RequirementContext<?>> requirements(Target<?> target) {
+        return requirementIndex.get(target);
+    }
+
+    @Override
+    public List<RequirementContext<?>> requirementOrder(Target<?> target) {
+        return requirementOrder.get(target);
     }
 
     @Override
@@ -114,36 +155,67 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
 
         final FutureResult result = empty(target, this);
 
-        Runnable runnable = () -> {
+        schedule(context, executionContext -> {
+            Result actionResult = run(target, executionContext).with(target, this);
 
-            long startTime = System.nanoTime();
+            if (!actionResult.error()) {
+                log.finest("executing " + actions().size() + " nested actions");
+                result.complete(actionResult.combine(executeActions(target, executionContext)));
+            }
+        });
 
-            Action<TTarget> action = action(target, context);
-            log.finest("executing " + action.getClass().getCanonicalName() + " with " + target);
-            Result actionResult = action
-                    .execute(target, context)
-                    .with(target, this);
+        return result;
+    }
 
-            store(target, Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
-            long endTime = System.nanoTime();
-            log.finest("executed in " + (startTime - endTime) / 1000000 + "ms: " + Arrays.toString(actionResult.messages()));
+    @Override
+    public void executeAndForget(@NonNull Target<TTarget> target, @NonNull ExecutionContext<ActionContext<TTarget>> context) {
 
-            if (!actionResult.error()) {
-                log.finest("executing " + actions().size() + " nested actions");
-                result.complete(actionResult.combine(executeActions(target, context)));
+        if (!isTargetType(target) || !canExecute(target)) return;
+
+        if (testRequirements(context).failure()) return;
+
+        schedule(context, executionContext -> {
+            if (!run(target, executionContext).error()) {
+                executeActionsAndForget(target, executionContext);
             }
-        };
+        });
+    }
+
+    private Result run(Target<TTarget> target, ExecutionContext<ActionContext<TTarget>> context) {
+
+        long startTime = System.nanoTime();
+
+        Action<TTarget> action = action(target, context);
+        log.finest("executing " + action.getClass().getCanonicalName() + " with " + target);
+        Result actionResult = action.execute(target, context);
+        if (meta().invalidatesRequirements()) {
+            // the action may have changed what the requirements of the following actions are tested against
+            context.invalidateRequirements();
+        }
+
+        if (tracksExecution()) {
+            timestamp(target, Constants.Storage.LAST_EXECUTION, System.currentTimeMillis(), executionTtl());
+        }
+        long endTime = System.nanoTime();
+        log.finest("executed in " + (startTime - endTime) / 1000000 + "ms: " + Arrays.toString(actionResult.messages()));
+
+        configuration().resultSink().ifPresent(sink -> sink.accept(actionResult.with(target, this)));
+
+        return actionResult;
+    }
+
+    private void schedule(ExecutionContext<ActionContext<TTarget>> context, Consumer<ExecutionContext<ActionContext<TTarget>>> execution) {
 
         long delay = this.config().delay();
 
         if (configuration().scheduler().isPresent() && delay > 0) {
             log.finest("running delayed action " + delay + "ms delay");
-            configuration().scheduler().get().runTaskLater(runnable, delay);
+            // the requirement results of the trigger are outdated once the delayed action runs
+            ExecutionContext<ActionContext<TTarget>> delayedContext = context.detach();
+            configuration().scheduler().get().runTaskLater(() -> execution.accept(delayedContext), delay);
         } else {
-            runnable.run();
+            execution.accept(context);
         }
-
-        return result;
     }
 
     /**
@@ -182,18 +254,56 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
         long remainingCooldown = (lastExecution + cooldown) - System.currentTimeMillis();
 
         if (remainingCooldown > 0) {
-            return failure(target, this, "Action is still on cooldown. "
+            return failure(target, this, () -> "Action is still on cooldown. "
                     + TimeUtil.getAccurrateShortFormatedTime(remainingCooldown) + " are remaining.");
         } else {
             return success(target, this);
         }
     }
 
+    /**
+     * Checks the execute once and cooldown options without creating any results.
+     *
+     * @param target target to check
+     * @return true if the action is neither executed once nor on cooldown
+     */
+    private boolean canExecute(Target<TTarget> target) {
+
+        if (!this.config().executeOnce() && this.config().cooldown() < 1) return true;
+
+        long lastExecution = getLastExecution(target);
+        if (lastExecution < 1) return true;
+        if (this.config().executeOnce()) return false;
+
+        return lastExecution + this.config().cooldown() <= System.currentTimeMillis();
+    }
+
+    /**
+     * The last execution is only needed for the execute once and cooldown options.
+     *
+     * @return true if the last execution of the targets must be stored
+     */
+    private boolean tracksExecution() {
+
+        return this.config().executeOnce() || this.config().cooldown() > 0;
+    }
+
+    /**
+     * The last execution only needs to be kept until the cooldown is over,
+     * unless the action can only be executed once.
+     *
+     * @return the time in milliseconds the last execution is stored or zero to keep it forever
+     */
+    private long executionTtl() {
+
+        return this.config().executeOnce() ? 0 : this.config().cooldown();
+    }
+
     private FutureResult testExecution(Target<TTarget> target) {
         return testExecutedOnce(target).combine(testCooldown(target));
     }
 
     private long getLastExecution(Target<TTarget> target) {
-        return store(target, Constants.Storage.LAST_EXECUTION, Long.class).orElse(0L);
+        return timestamp(target, Constants.Storage.LAST_EXECUTION);
     }
 }
@@ -19,6 +19,8 @@ package io.artframework.impl;
 import com.google.common.collect.ImmutableList;
 import io.artframework.*;
 import io.artframework.conf.ArtSettings;
+import io.artframework.util.TargetClassIndex;
+import io.artframework.util.TypeMap;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -26,7 +28,6 @@ import lombok.experimental.Accessors;
 import lombok.extern.java.Log;
 
 import java.util.*;
-import java.util.function.Function;
 
 import static io.artframework.util.ReflectionUtil.getEntryForTarget;
 
@@ -39,7 +40,11 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
 
     @Getter
     private final List<ArtObjectContext<?>> artContexts;
-    private final Map<Class<?>, List<TriggerListener<?>>> triggerListeners = new HashMap<>();
+    private final ExecutionPlan plan;
+    private final TargetClassIndex<RequirementContext<?>> requirementIndex;
+    private final AdaptiveRequirementOrder requirementOrder;
+    private final TargetClassIndex<ActionContext<?>> actionIndex;
+    private final Map<Class<?>, List<TriggerListener<?>>> triggerListeners = new TypeMap<>();
     private final Map<String, Object> data = new HashMap<>();
     @Getter
     private final Map<String, Variable<?>> variables = new HashMap<>();
@@ -48,6 +53,10 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
         super(scope);
         this.settings = settings;
         this.artContexts = ImmutableList.copyOf(artContexts);
+        this.plan = ExecutionPlan.compile(this.artContexts);
+        this.requirementIndex = new TargetClassIndex<>(() -> Arrays.asList(plan.requirements()));
+        this.requirementOrder = new AdaptiveRequirementOrder(requirementIndex);
+        this.actionIndex = new TargetClassIndex<>(() -> Arrays.asList(plan.actions()));
     }
 
     @Override
@@ -70,13 +79,10 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
         return test(target, ExecutionContext.of(scope(), this, target));
     }
 
-    @SuppressWarnings("unchecked")
     private <TTarget> CombinedResult test(Target<TTarget> target, ExecutionContext<?> executionContext) {
 
-        return executeContext(RequirementContext.class, requirementContext ->
-                requirementContext.test(target, executionContext.next(requirementContext)),
-                artContexts()
-        );
+        List<RequirementContext<?>> requirements = settings().adaptiveRequirementOrdering() ? requirementOrder.get(target) : requirementIndex.get(target);
+        return RequirementHolder.testRequirements(requirements, target, executionContext);
     }
 
     @Override
@@ -90,20 +96,42 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
         return execute(ExecutionContext.of(scope(), this, targets));
     }
 
-    @SuppressWarnings("unchecked")
     private FutureResult execute(ExecutionContext<?> executionContext) {
-        return executeContext(ActionContext.class, actionContext ->
-                actionContext.execute(executionContext.next(actionContext)),
-                artContexts()
-        ).future();
+
+        if (settings().fireAndForget()) {
+            executeAndForget(executionContext);
+            return FutureResult.empty().complete();
+        }
+
+        CombinedResult result = null;
+        for (ActionContext<?> actionContext : plan.actions()) {
+            FutureResult actionResult = actionContext.execute(executionContext.next(actionContext));
+            result = result == null ? CombinedResult.of(actionResult) : result.combine(actionResult);
+        }
+
+        return result == null ? CombinedResult.empty().future() : result.future();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TTarget> void executeAndForget(ExecutionContext<?> executionContext) {
+
+        for (ActionContext<?> action : plan.actions()) {
+            ActionContext<TTarget> actionContext = (ActionContext<TTarget>) action;
+            for (Target<?> target : executionContext.targets()) {
+                if (actionContext.isTargetType(target)) {
+                    actionContext.executeAndForget((Target<TTarget>) target, executionContext.next(actionContext));
+                }
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
-    private <TTarget> void execute(Target<TTarget> target, ExecutionContext<?> context) {
-        executeContext(ActionContext.class, actionContext ->
-                        actionContext.execute(target, context.next(actionContext)),
-                artContexts()
-        );
+    private <TTarget> void executeAndForget(Target<TTarget> target, ExecutionContext<?> context) {
+
+        for (ActionContext<?> action : actionIndex.get(target)) {
+            ActionContext<TTarget> actionContext = (ActionContext<TTarget>) action;
+            actionContext.executeAndForget(target, context.next(actionContext));
+        }
     }
 
     @Override
@@ -124,7 +152,7 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
         if (!isAutoTrigger()) return;
 
         if (test(target, context).success()) {
-            if (settings.executeActions()) execute(target, context);
+            if (settings.executeActions()) executeAndForget(target, context);
 
             callListeners(target, context);
         }
@@ -148,34 +176,19 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
 
     @Override
     public ArtContext enableTrigger() {
-        artContexts().stream()
-                .filter(artObjectContext -> artObjectContext instanceof TriggerContext)
-                .map(artObjectContext -> (TriggerContext) artObjectContext)
-                .forEach(context -> context.addListener(this).enable());
+
+        for (TriggerContext context : plan.triggers()) {
+            context.addListener(this).enable();
+        }
         return this;
     }
 
     @Override
     public ArtContext disableTrigger() {
-        artContexts().stream()
-                .filter(artObjectContext -> artObjectContext instanceof TriggerContext)
-                .map(artObjectContext -> (TriggerContext) artObjectContext)
-                .forEach(context -> context.removeListener(this).disable());
-        return this;
-    }
 
-    @SuppressWarnings("unchecked")
-    protected final <TContext> CombinedResult executeContext(
-            Class<TContext> contextClass,
-            Function<TContext, Result> function,
-            Collection<ArtObjectContext<?>> contexts)
-    {
-        return contexts.stream()
-                .filter(contextClass::isInstance)
-                .map(artObjectContext -> (TContext) artObjectContext)
-                .map(function)
-                .map(CombinedResult::of)
-                .reduce(CombinedResult::combine)
-                .orElse(CombinedResult.of(empty()));
+        for (TriggerContext context : plan.triggers()) {
+            context.removeListener(this).disable();
+        }
+        return this;
     }
 }
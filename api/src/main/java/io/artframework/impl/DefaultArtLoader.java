@@ -21,11 +21,11 @@ import io.artframework.Scope;
 import io.artframework.parser.Parser;
 import io.artframework.parser.flow.FlowParser;
 import io.artframework.util.ReflectionUtil;
+import io.artframework.util.TypeMap;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import lombok.extern.java.Log;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -35,7 +35,7 @@ public class DefaultArtLoader implements ArtLoader {
     @Getter
     @Accessors(fluent = true)
     private final Scope scope;
-    private final Map<Class<?>, Function<Scope, ? extends Parser<?>>> parsers = new HashMap<>();
+    private final Map<Class<?>, Function<Scope, ? extends Parser<?>>> parsers = new TypeMap<>();
 
     public DefaultArtLoader(Scope scope) {
         this.scope = scope;
@@ -19,50 +19,79 @@ package io.artframework.impl;
 import com.google.common.collect.ImmutableList;
 import io.artframework.*;
 import io.artframework.util.ReflectionUtil;
-import lombok.Getter;
-import lombok.Singular;
-import lombok.Value;
 import lombok.experimental.Accessors;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
-@Value
+/**
+ * Persistent implementation of the {@link CombinedResult}.
+ * <p>The results are stored in an immutable tree that is shared between combined results.
+ * Combining a result is a constant time operation and the status is folded while combining.
+ * The flat list of results and the messages are only built once they are requested.
+ * <p>Nested combined results are flattened and empty results are omitted
+ * as long as there is at least one result that is not empty.
+ */
 @Accessors(fluent = true)
-public class DefaultCombinedResult implements CombinedResult {
+public final class DefaultCombinedResult implements CombinedResult {
+
+    private final Node root;
+    private final int size;
+    private final int nonEmpty;
+    private final ResultStatus nonEmptyStatus;
 
-    @Getter(lazy = true)
-    ResultStatus status = combineStatus();
-    @Getter(lazy = true)
-    String[] messages = combineMessages();
-    @Singular
-    List<Result> results;
+    private volatile List<Result> results;
+    private volatile String[] messages;
 
     public DefaultCombinedResult() {
-        this.results = new ArrayList<>();
+        this(null, 0, 0, null);
     }
 
     public DefaultCombinedResult(List<Result> results) {
-        this.results = ImmutableList.copyOf(flatten(results));
+        DefaultCombinedResult combined = new DefaultCombinedResult();
+        for (Result result : results) {
+            combined = combined.append(result);
+        }
+        this.root = combined.root;
+        this.size = combined.size;
+        this.nonEmpty = combined.nonEmpty;
+        this.nonEmptyStatus = combined.nonEmptyStatus;
     }
 
-    private Collection<Result> flatten(Collection<Result> results) {
-        ArrayList<Result> flatResults = new ArrayList<>();
-        for (Result result : results) {
-            if (result instanceof CombinedResult) {
-                flatResults.addAll(flatten(((CombinedResult) result).results()));
-            } else {
-                flatResults.add(result);
+    private DefaultCombinedResult(Node root, int size, int nonEmpty, ResultStatus nonEmptyStatus) {
+        this.root = root;
+        this.size = size;
+        this.nonEmpty = nonEmpty;
+        this.nonEmptyStatus = nonEmptyStatus;
+    }
+
+    @Override
+    public ResultStatus status() {
+        return nonEmptyStatus == null ? ResultStatus.EMPTY : nonEmptyStatus;
+    }
+
+    @Override
+    public String[] messages() {
+        String[] messages = this.messages;
+        if (messages == null) {
+            Set<String> uniqueMessages = new LinkedHashSet<>();
+            for (Result result : results()) {
+                Collections.addAll(uniqueMessages, result.messages());
             }
+            messages = uniqueMessages.toArray(new String[0]);
+            this.messages = messages;
         }
+        return messages.clone();
+    }
 
-        if (flatResults.stream().anyMatch(result -> result.status() != ResultStatus.EMPTY)) {
-            return flatResults.stream()
-                    .filter(result -> result.status() != ResultStatus.EMPTY)
-                    .collect(Collectors.toList());
+    @Override
+    public List<Result> results() {
+        List<Result> results = this.results;
+        if (results == null) {
+            results = flatten();
+            this.results = results;
         }
-
-        return flatResults;
+        return results;
     }
 
     @Override
@@ -87,26 +116,101 @@ public class DefaultCombinedResult implements CombinedResult {
 
     @Override
     public CombinedResult combine(Result result) {
-        ArrayList<Result> results = new ArrayList<>(results());
-        results.add(result);
-        return new DefaultCombinedResult(results);
+        return append(result);
     }
 
-    private String[] combineMessages() {
-        return results().stream()
-                .map(Result::messages)
-                .reduce((list1, list2) -> {
-                    HashSet<String> messages = new HashSet<>();
-                    messages.addAll(Arrays.asList(list1));
-                    messages.addAll(Arrays.asList(list2));
-                    return messages.toArray(new String[0]);
-                }).orElse(new String[0]);
+    private DefaultCombinedResult append(Result result) {
+        if (result instanceof DefaultCombinedResult) {
+            DefaultCombinedResult other = (DefaultCombinedResult) result;
+            if (other.size == 0) return this;
+            if (size == 0) return other;
+            return new DefaultCombinedResult(
+                    new Node(root, other.root),
+                    size + other.size,
+                    nonEmpty + other.nonEmpty,
+                    combine(nonEmptyStatus, other.nonEmptyStatus)
+            );
+        }
+
+        if (result instanceof CombinedResult) {
+            DefaultCombinedResult combined = this;
+            for (Result nestedResult : ((CombinedResult) result).results()) {
+                combined = combined.append(nestedResult);
+            }
+            return combined;
+        }
+
+        boolean empty = result.status() == ResultStatus.EMPTY;
+        return new DefaultCombinedResult(
+                root == null ? new Node(result) : new Node(root, new Node(result)),
+                size + 1,
+                empty ? nonEmpty : nonEmpty + 1,
+                empty ? nonEmptyStatus : combine(nonEmptyStatus, result.status())
+        );
     }
 
-    private ResultStatus combineStatus() {
-        return results().stream()
-                .map(Result::status)
-                .reduce(ResultStatus::combine)
-                .orElse(ResultStatus.EMPTY);
+    private static ResultStatus combine(ResultStatus status, ResultStatus other) {
+        if (status == null) return other;
+        if (other == null) return status;
+        return status.combine(other);
+    }
+
+    private List<Result> flatten() {
+        if (root == null) return ImmutableList.of();
+
+        ImmutableList.Builder<Result> results = ImmutableList.builderWithExpectedSize(nonEmpty > 0 ? nonEmpty : size);
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.result != null) {
+                if (nonEmpty == 0 || node.result.status() != ResultStatus.EMPTY) {
+                    results.add(node.result);
+                }
+            } else {
+                stack.push(node.right);
+                stack.push(node.left);
+            }
+        }
+        return results.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DefaultCombinedResult)) return false;
+        return results().equals(((DefaultCombinedResult) o).results());
+    }
+
+    @Override
+    public int hashCode() {
+        return results().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultCombinedResult(status=" + status() + ", results=" + results() + ")";
+    }
+
+    /**
+     * Immutable node of the result tree that either holds a single result or joins two subtrees.
+     */
+    private static final class Node {
+
+        private final Result result;
+        private final Node left;
+        private final Node right;
+
+        private Node(Result result) {
+            this.result = result;
+            this.left = null;
+            this.right = null;
+        }
+
+        private Node(Node left, Node right) {
+            this.result = null;
+            this.left = left;
+            this.right = right;
+        }
     }
 }
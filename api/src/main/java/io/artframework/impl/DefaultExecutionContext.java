@@ -16,7 +16,6 @@
 
 package io.artframework.impl;
 
-import com.google.common.collect.ImmutableList;
 import io.artframework.*;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
@@ -24,13 +23,25 @@ import lombok.experimental.Accessors;
 import javax.annotation.Nullable;
 import java.util.*;
 
+/**
+ * The default execution context is a single frame in the execution chain of an {@link ArtContext}.
+ * <p>Every call to {@link #next(ArtObjectContext)} creates a new frame that only references its parent frame.
+ * The history of the execution is the chain of parent frames, which means it automatically shrinks
+ * again once a child finished executing and its frame is no longer referenced.
+ * <p>All frames of a chain share the same targets, data, variables and memoized requirement results,
+ * which are only allocated if they are used. A {@link #detach() detached} frame of a delayed execution
+ * keeps sharing the targets, data and variables, but tests its requirements again.
+ *
+ * @param <TContext> the type of the art object context of this frame
+ */
 @Accessors(fluent = true)
 public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> extends AbstractScoped implements ExecutionContext<TContext> {
 
     private final Context root;
     private final Container container;
+    private final RequirementResults requirementResults;
+    private final DefaultExecutionContext<?> parent;
     private final TContext currentContext;
-    private final Map<String, Variable<?>> variables = new HashMap<>();
 
     public DefaultExecutionContext(
             @NonNull Scope scope,
@@ -40,13 +51,17 @@ public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> exten
         super(scope);
         this.root = root;
         this.container = new Container(targets);
+        this.requirementResults = new RequirementResults();
+        this.parent = null;
         this.currentContext = null;
     }
 
-    DefaultExecutionContext(Scope scope, Context root, Container container, TContext currentContext) {
+    DefaultExecutionContext(Scope scope, Context root, Container container, RequirementResults requirementResults, DefaultExecutionContext<?> parent, TContext currentContext) {
         super(scope);
         this.root = root;
         this.container = container;
+        this.requirementResults = requirementResults;
+        this.parent = parent;
         this.currentContext = currentContext;
     }
 
@@ -57,30 +72,29 @@ public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> exten
 
     public Map<String, Variable<?>> variables() {
 
-        return root().map(Context::variables).orElse(variables);
+        if (root != null) return root.variables();
+
+        return container.variables();
     }
 
     @Override
     public Optional<ArtObjectContext<?>> parent() {
-        if (container.history.empty()) {
-            return Optional.empty();
-        }
-        return Optional.of(container.history.peek());
+        return Optional.ofNullable(parentFrame()).map(DefaultExecutionContext::current);
     }
 
     @Override
     public Collection<ArtObjectContext<?>> history() {
-        return ImmutableList.copyOf(container.history);
+        return new History(parentFrame());
     }
 
     @Override
     public Collection<Target<?>> targets() {
-        return ImmutableList.copyOf(container.targets);
+        return container.targetView;
     }
 
     @Override
     public <TTarget> ExecutionContext<TContext> addTarget(Target<TTarget> target) {
-        container.targets.add(target);
+        container.add(target);
         return this;
     }
 
@@ -107,31 +121,158 @@ public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> exten
 
     @Override
     public @NonNull Map<String, Object> data() {
-        return container.data;
+        return container.data();
+    }
+
+    @Override
+    public <TTarget> Result test(@NonNull RequirementContext<TTarget> requirement, @NonNull Target<TTarget> target) {
+
+        if (requirement.stateful()) {
+            return requirement.test(target, next(requirement));
+        }
+
+        Result result = requirementResults.get(requirement, target);
+        if (result == null) {
+            // the requirement is tested outside of the lock, concurrent tests of the same requirement are possible but harmless
+            result = requirement.test(target, next(requirement));
+            requirementResults.put(requirement, target, result);
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidateRequirements() {
+        requirementResults.clear();
+    }
+
+    @Override
+    public ExecutionContext<TContext> detach() {
+        return new DefaultExecutionContext<>(scope(), root, container, new RequirementResults(), parent, currentContext);
     }
 
     @Override
     public <TNextContext extends ArtObjectContext<TArtObject>, TArtObject extends ArtObject> ExecutionContext<TNextContext> next(TNextContext nextContext) {
-        if (current() != null) container.history.push(current());
-        return new DefaultExecutionContext<>(scope(), root, container, nextContext);
+        return new DefaultExecutionContext<>(scope(), root, container, requirementResults, current() != null ? this : parentFrame(), nextContext);
     }
 
-    private static class Container {
+    /**
+     * @return the nearest parent frame that has a current context or null if none exists
+     */
+    private DefaultExecutionContext<?> parentFrame() {
+        DefaultExecutionContext<?> frame = parent;
+        while (frame != null && frame.current() == null) {
+            frame = frame.parent;
+        }
+        return frame;
+    }
+
+    /**
+     * A read-only view on the history of an execution context that walks the chain of parent frames.
+     */
+    private static final class History extends AbstractCollection<ArtObjectContext<?>> {
+
+        private final DefaultExecutionContext<?> head;
+
+        private History(DefaultExecutionContext<?> head) {
+            this.head = head;
+        }
+
+        @Override
+        public Iterator<ArtObjectContext<?>> iterator() {
+            return new Iterator<>() {
+
+                private DefaultExecutionContext<?> frame = head;
+
+                @Override
+                public boolean hasNext() {
+                    return frame != null;
+                }
 
-        private final Map<String, Object> data;
-        private final Stack<ArtObjectContext<?>> history;
-        private final Set<Target<?>> targets;
+                @Override
+                public ArtObjectContext<?> next() {
+                    if (frame == null) throw new NoSuchElementException();
+                    ArtObjectContext<?> context = frame.current();
+                    frame = frame.parentFrame();
+                    return context;
+                }
+            };
+        }
 
-        private Container() {
-            this.data = new HashMap<>();
-            this.history = new Stack<>();
-            this.targets = new HashSet<>();
+        @Override
+        public int size() {
+            int size = 0;
+            for (DefaultExecutionContext<?> frame = head; frame != null; frame = frame.parentFrame()) {
+                size++;
+            }
+            return size;
         }
+    }
+
+    private static final class Container {
+
+        private Target<?>[] targets;
+        private List<Target<?>> targetView;
+        private Map<String, Object> data;
+        private Map<String, Variable<?>> variables;
 
         private Container(Target<?>... targets) {
-            this.data = new HashMap<>();
-            this.history = new Stack<>();
-            this.targets = new HashSet<>(Arrays.asList(targets));
+            this.targets = new Target<?>[0];
+            this.targetView = Collections.emptyList();
+            for (Target<?> target : targets) {
+                add(target);
+            }
+        }
+
+        private void add(Target<?> target) {
+            for (Target<?> existingTarget : targets) {
+                if (existingTarget.equals(target)) return;
+            }
+
+            Target<?>[] newTargets = Arrays.copyOf(targets, targets.length + 1);
+            newTargets[targets.length] = target;
+            this.targets = newTargets;
+            this.targetView = Collections.unmodifiableList(Arrays.asList(newTargets));
+        }
+
+        private Map<String, Object> data() {
+            if (data == null) {
+                data = new HashMap<>();
+            }
+            return data;
+        }
+
+        private Map<String, Variable<?>> variables() {
+            if (variables == null) {
+                variables = new HashMap<>();
+            }
+            return variables;
+        }
+    }
+
+    /**
+     * The memoized requirement results of an execution chain.
+     * <p>Actions may be executed asynchronously, so every access is guarded by a short lock.
+     * The requirements are compared by identity, because art object contexts of the same scope are equal.
+     */
+    private static final class RequirementResults {
+
+        private Map<RequirementContext<?>, Map<Target<?>, Result>> results;
+
+        private synchronized Result get(RequirementContext<?> requirement, Target<?> target) {
+            if (results == null) return null;
+            Map<Target<?>, Result> targetResults = results.get(requirement);
+            return targetResults != null ? targetResults.get(target) : null;
+        }
+
+        private synchronized void put(RequirementContext<?> requirement, Target<?> target, Result result) {
+            if (results == null) {
+                results = new IdentityHashMap<>();
+            }
+            results.computeIfAbsent(requirement, key -> new HashMap<>()).put(target, result);
+        }
+
+        private synchronized void clear() {
+            results = null;
         }
     }
 }
@@ -19,13 +19,25 @@ package io.artframework.impl;
 import io.artframework.AbstractProvider;
 import io.artframework.InjectionProvider;
 import io.artframework.Scope;
+import io.artframework.util.ReflectionUtil;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static io.artframework.util.ConfigUtil.injectConfigFields;
 
 public class DefaultInjectionProvider extends AbstractProvider implements InjectionProvider {
 
+    // the constructor of every class is only looked up once, null if the class has no usable constructor
+    private static final ClassValue<Function<Scope, Object>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Function<Scope, Object> computeValue(Class<?> type) {
+            return findConstructor(type);
+        }
+    };
+
     public DefaultInjectionProvider(Scope scope) {
         super(scope);
     }
@@ -34,24 +46,36 @@ public class DefaultInjectionProvider extends AbstractProvider implements Inject
     @SuppressWarnings("unchecked")
     public <TObject> TObject create(Class<TObject> objectClass, Scope scope) throws ReflectiveOperationException {
 
-        TObject object = null;
-        for (Constructor<?> constructor : objectClass.getDeclaredConstructors()) {
-            constructor.setAccessible(true);
-            if (constructor.getParameterTypes().length == 1 && Scope.class.isAssignableFrom(constructor.getParameterTypes()[0])) {
-                object = (TObject) constructor.newInstance(scope);
-                break;
-            } else if (constructor.getParameterTypes().length < 1) {
-                object = (TObject) constructor.newInstance();
-                break;
-            }
-        }
-
-        if (object == null) {
+        Function<Scope, Object> constructor = CONSTRUCTORS.get(objectClass);
+        if (constructor == null) {
             throw new ReflectiveOperationException("Unable to find a valid constructor to create a new instance of " + objectClass.getCanonicalName());
         }
 
+        TObject object = (TObject) constructor.apply(scope);
+
         injectConfigFields(scope, object);
 
         return object;
     }
+
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Scope, Object> findConstructor(Class<?> type) {
+
+        try {
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                Class<?>[] parameterTypes = constructor.getParameterTypes();
+                if (parameterTypes.length == 1 && Scope.class.isAssignableFrom(parameterTypes[0])) {
+                    return ReflectionUtil.getConstructorFunction((Class) type, parameterTypes[0]);
+                } else if (parameterTypes.length < 1) {
+                    Supplier<?> supplier = ReflectionUtil.getConstructorSupplier(type);
+                    return scope -> supplier.get();
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
 }
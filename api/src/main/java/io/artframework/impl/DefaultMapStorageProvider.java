@@ -17,26 +17,72 @@
 package io.artframework.impl;
 
 import io.artframework.AbstractScoped;
+import io.artframework.Configuration;
 import io.artframework.Scope;
+import io.artframework.StorageKey;
 import io.artframework.StorageProvider;
+import io.artframework.Task;
 import lombok.NonNull;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
 
 public class DefaultMapStorageProvider extends AbstractScoped implements StorageProvider {
 
-    private final Map<String, Object> storage = new HashMap<>();
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    // interval in milliseconds in which expired values are removed
+    private static final long SWEEP_INTERVAL = 60000L;
+
+    private final LongSupplier clock;
+    private final Map<StorageKey, Object> storage = new ConcurrentHashMap<>();
+    // counters and timestamps are kept as primitives, a key is either stored in the map or in one of the tables
+    // each table also guards all writes to the keys of its stripe
+    private final NumberTable[] numbers = new NumberTable[STRIPES];
+    private volatile boolean sweeperScheduled;
+    private Task sweeper;
 
     public DefaultMapStorageProvider(Scope scope) {
+        this(scope, System::currentTimeMillis);
+    }
+
+    DefaultMapStorageProvider(Scope scope, LongSupplier clock) {
         super(scope);
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            numbers[i] = new NumberTable(16, clock);
+        }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <TValue> Optional<TValue> set(@NonNull String key, @NonNull TValue value) {
-        Object existingValue = storage.put(key, value);
+        return set(StorageKey.of(key), value);
+    }
+
+    @Override
+    public <TValue> Optional<TValue> set(@NonNull StorageKey key, @NonNull TValue value) {
+        return set(key, value, 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <TValue> Optional<TValue> set(@NonNull StorageKey key, @NonNull TValue value, long ttl) {
+        NumberTable stripe = numbers(key);
+        long expires = expires(ttl);
+        Object existingValue;
+        byte type = NumberTable.typeOf(value);
+        synchronized (stripe) {
+            if (type != 0) {
+                existingValue = stripe.put(key, ((Number) value).longValue(), type, expires);
+                if (existingValue == null) existingValue = unwrap(key, storage.remove(key));
+            } else {
+                existingValue = unwrap(key, storage.put(key, expires > 0 ? new ExpiringValue(value, expires) : value));
+                if (existingValue == null) existingValue = stripe.remove(key);
+            }
+        }
         if (value.getClass().isInstance(existingValue)) {
             return Optional.of((TValue) existingValue);
         }
@@ -45,8 +91,14 @@ public class DefaultMapStorageProvider extends AbstractScoped implements Storage
 
     @Override
     public <TValue> Optional<TValue> get(String key, Class<TValue> valueClass) {
+        return get(StorageKey.of(key), valueClass);
+    }
+
+    @Override
+    public <TValue> Optional<TValue> get(StorageKey key, Class<TValue> valueClass) {
         try {
-            Object value = storage.get(key);
+            Object value = unwrap(key, storage.get(key));
+            if (value == null) value = numbers(key).get(key);
             return Optional.ofNullable(valueClass.cast(value));
         } catch (Exception e) {
             e.printStackTrace();
@@ -55,7 +107,122 @@ public class DefaultMapStorageProvider extends AbstractScoped implements Storage
     }
 
     @Override
-    public void close() {
+    public <TValue> Optional<TValue> compute(@NonNull StorageKey key, @NonNull Class<TValue> valueClass, @NonNull UnaryOperator<TValue> function) {
+        synchronized (numbers(key)) {
+            TValue value = function.apply(get(key, valueClass).orElse(null));
+            if (value != null) set(key, value);
+            return Optional.ofNullable(value);
+        }
+    }
+
+    @Override
+    public int count(@NonNull StorageKey key) {
+        return (int) numbers(key).get(key, 0);
+    }
+
+    @Override
+    public int increment(@NonNull StorageKey key, int delta) {
+        return (int) numbers(key).add(key, delta, NumberTable.INT);
+    }
+
+    @Override
+    public long timestamp(@NonNull StorageKey key) {
+        return numbers(key).get(key, 0);
+    }
+
+    @Override
+    public long timestamp(@NonNull StorageKey key, long timestamp) {
+        return timestamp(key, timestamp, 0);
+    }
+
+    @Override
+    public long timestamp(@NonNull StorageKey key, long timestamp, long ttl) {
+        Number previous = numbers(key).put(key, timestamp, NumberTable.LONG, expires(ttl));
+        return previous != null ? previous.longValue() : 0;
+    }
+
+    @Override
+    public boolean compareAndSetTimestamp(@NonNull StorageKey key, long expected, long timestamp) {
+        return compareAndSetTimestamp(key, expected, timestamp, 0);
+    }
+
+    @Override
+    public boolean compareAndSetTimestamp(@NonNull StorageKey key, long expected, long timestamp, long ttl) {
+        return numbers(key).compareAndSet(key, expected, timestamp, NumberTable.LONG, expires(ttl));
+    }
+
+    /**
+     * Removes all expired values from the storage.
+     * <p>Expired values are never returned, but only removed when they are accessed.
+     * The sweep is scheduled asynchronously once the first value with an expiry time is stored
+     * and a {@link io.artframework.Scheduler} is configured.
+     */
+    public void sweep() {
+        long now = clock.getAsLong();
+        storage.entrySet().removeIf(entry -> entry.getValue() instanceof ExpiringValue
+                && ((ExpiringValue) entry.getValue()).isExpired(now));
+        for (NumberTable table : numbers) {
+            table.sweep();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (sweeper != null) {
+            sweeper.cancel();
+            sweeper = null;
+        }
+        sweeperScheduled = false;
         storage.clear();
+        for (NumberTable table : numbers) {
+            table.clear();
+        }
+    }
+
+    private NumberTable numbers(StorageKey key) {
+        // use the upper bits of the hash, the tables use the lower bits to find their slots
+        return numbers[(key.hashCode() * 0x9E3779B9) >>> (32 - STRIPE_BITS)];
+    }
+
+    private long expires(long ttl) {
+        if (ttl <= 0) return 0;
+        if (!sweeperScheduled) scheduleSweeper();
+        return clock.getAsLong() + ttl;
+    }
+
+    private synchronized void scheduleSweeper() {
+        if (sweeperScheduled) return;
+        sweeperScheduled = true;
+        Configuration configuration = scope().configuration();
+        if (configuration == null) return;
+        sweeper = configuration.scheduler()
+                .map(scheduler -> scheduler.runTaskTimerAsynchronously(this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL))
+                .orElse(null);
+    }
+
+    // returns the actual value if the stored value did not expire and removes it otherwise
+    private Object unwrap(StorageKey key, Object value) {
+        if (!(value instanceof ExpiringValue)) return value;
+        ExpiringValue expiringValue = (ExpiringValue) value;
+        if (expiringValue.isExpired(clock.getAsLong())) {
+            storage.remove(key, value);
+            return null;
+        }
+        return expiringValue.value;
+    }
+
+    private static final class ExpiringValue {
+
+        private final Object value;
+        private final long expires;
+
+        private ExpiringValue(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+
+        private boolean isExpired(long now) {
+            return expires <= now;
+        }
     }
 }
@@ -13,6 +13,8 @@ import java.util.*;
 public class DefaultReplacementProvider extends AbstractProvider implements ReplacementProvider {
 
     private final Map<Class<?>, Replacement> replacements = new HashMap<>();
+    // read-only copy of the replacements that is used for every replacement until they change
+    private volatile List<Replacement> all = List.of();
 
     public DefaultReplacementProvider(Scope scope) {
 
@@ -23,7 +25,7 @@ public class DefaultReplacementProvider extends AbstractProvider implements Repl
     @Override
     public Collection<Replacement> all() {
 
-        return List.copyOf(replacements.values());
+        return all;
     }
 
     @Override
@@ -35,6 +37,7 @@ public class DefaultReplacementProvider extends AbstractProvider implements Repl
         }
 
         replacements.put(replacement.getClass(), replacement);
+        all = List.copyOf(replacements.values());
         log.info("[REGISTERED] replacement: " + replacement.getClass().getCanonicalName());
 
         return this;
@@ -44,6 +47,7 @@ public class DefaultReplacementProvider extends AbstractProvider implements Repl
     public ReplacementProvider remove(@NonNull Class<? extends Replacement> replacement) {
 
         replacements.remove(replacement);
+        all = List.copyOf(replacements.values());
 
         return this;
     }
@@ -52,6 +56,7 @@ public class DefaultReplacementProvider extends AbstractProvider implements Repl
     public ReplacementProvider removeAll() {
 
         replacements.clear();
+        all = List.of();
 
         return this;
     }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import lombok.NonNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The default requirement cache keeps all results in memory.
+ * <p>Results are grouped by the unique id of their target, which makes invalidating
+ * all results of a target a single map operation. Expired results are removed when they are accessed
+ * and by a {@link #sweep()} that is scheduled once the first result is cached and a {@link Scheduler} is configured.
+ */
+public class DefaultRequirementCache implements RequirementCache {
+
+    // interval in milliseconds in which expired results are removed
+    private static final long SWEEP_INTERVAL = 60000L;
+
+    // the results of a target are keyed by identity, because requirement contexts of the same scope are equal
+    final Map<String, Map<RequirementContext<?>, Entry>> results = new ConcurrentHashMap<>();
+    private final Scope scope;
+    private final LongSupplier clock;
+    private volatile boolean sweeperScheduled;
+    private Task sweeper;
+
+    public DefaultRequirementCache() {
+        this(null);
+    }
+
+    public DefaultRequirementCache(@Nullable Scope scope) {
+        this(scope, System::currentTimeMillis);
+    }
+
+    DefaultRequirementCache(@Nullable Scope scope, LongSupplier clock) {
+        this.scope = scope;
+        this.clock = clock;
+    }
+
+    @Override
+    public <TTarget> Optional<Result> get(@NonNull RequirementContext<TTarget> requirement, @NonNull Target<TTarget> target) {
+
+        Map<RequirementContext<?>, Entry> targetResults = results.get(target.uniqueId());
+        if (targetResults == null) return Optional.empty();
+
+        Entry entry = targetResults.get(requirement);
+        if (entry == null) return Optional.empty();
+
+        if (entry.expires <= clock.getAsLong()) {
+            targetResults.remove(requirement, entry);
+            return Optional.empty();
+        }
+
+        return Optional.of(entry.result);
+    }
+
+    @Override
+    public <TTarget> void put(@NonNull RequirementContext<TTarget> requirement, @NonNull Target<TTarget> target, @NonNull Result result, long duration) {
+
+        if (duration < 1) return;
+        if (!sweeperScheduled) scheduleSweeper();
+
+        Entry entry = new Entry(result, clock.getAsLong() + duration);
+        // computed to not add the result to a map that is removed by a concurrent sweep
+        results.compute(target.uniqueId(), (id, targetResults) -> {
+            if (targetResults == null) {
+                targetResults = Collections.synchronizedMap(new IdentityHashMap<>());
+            }
+            targetResults.put(requirement, entry);
+            return targetResults;
+        });
+    }
+
+    @Override
+    public void invalidate(@NonNull Target<?> target) {
+
+        results.remove(target.uniqueId());
+    }
+
+    @Override
+    public void invalidate(@NonNull RequirementContext<?> requirement) {
+
+        for (Map<RequirementContext<?>, Entry> targetResults : results.values()) {
+            targetResults.remove(requirement);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+
+        results.clear();
+    }
+
+    /**
+     * Removes all expired results and the targets that have no results left.
+     */
+    public void sweep() {
+
+        long now = clock.getAsLong();
+        for (String target : results.keySet()) {
+            results.computeIfPresent(target, (id, targetResults) -> {
+                synchronized (targetResults) {
+                    targetResults.values().removeIf(entry -> entry.expires <= now);
+                }
+                return targetResults.isEmpty() ? null : targetResults;
+            });
+        }
+    }
+
+    /**
+     * Cancels the scheduled sweep and removes all cached results.
+     */
+    public synchronized void close() {
+
+        if (sweeper != null) {
+            sweeper.cancel();
+            sweeper = null;
+        }
+        sweeperScheduled = false;
+        results.clear();
+    }
+
+    private synchronized void scheduleSweeper() {
+
+        if (sweeperScheduled) return;
+        sweeperScheduled = true;
+        if (scope == null || scope.configuration() == null) return;
+        sweeper = scope.configuration().scheduler()
+                .map(scheduler -> scheduler.runTaskTimerAsynchronously(this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL))
+                .orElse(null);
+    }
+
+    private static final class Entry {
+
+        private final Result result;
+        private final long expires;
+
+        private Entry(Result result, long expires) {
+            this.result = result;
+            this.expires = expires;
+        }
+    }
+}
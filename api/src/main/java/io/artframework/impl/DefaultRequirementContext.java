@@ -18,6 +18,7 @@ package io.artframework.impl;
 
 import com.google.common.base.Strings;
 import io.artframework.*;
+import io.artframework.conf.ArtSettings;
 import io.artframework.conf.Constants;
 import io.artframework.conf.RequirementConfig;
 import lombok.Getter;
@@ -41,7 +42,13 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
     private final RequirementFactory<TTarget> factory;
     @Getter
     private final ConfigMap artObjectConfig;
+    // configs that do not depend on the target are resolved once when the context is created
+    private final ConfigMap resolvedConfig;
+    // shareable requirements with a static config are only created once
+    private volatile Requirement<TTarget> staticRequirement;
     private final Requirement<TTarget> requirement;
+    private final RequirementStatistics statistics = new RequirementStatistics();
+    private final long cacheDuration;
 
     public DefaultRequirementContext(
             @NonNull Scope scope,
@@ -53,7 +60,9 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
         this.config = config;
         this.factory = factory;
         this.artObjectConfig = artObjectConfig;
+        this.resolvedConfig = artObjectConfig.isStatic(scope) ? artObjectConfig.resolve(scope, null, null) : null;
         this.requirement = null;
+        this.cacheDuration = config.cache();
     }
 
     public DefaultRequirementContext(@NonNull Scope scope, ArtObjectMeta<Requirement<TTarget>> information, Requirement<TTarget> requirement, RequirementConfig config) {
@@ -62,7 +71,9 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
         this.config = config;
         this.factory = null;
         this.artObjectConfig = null;
+        this.resolvedConfig = null;
         this.requirement = requirement;
+        this.cacheDuration = config.cache();
     }
 
     @Override
@@ -75,13 +86,36 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
         return config().identifier();
     }
 
+    @Override
+    public boolean stateful() {
+
+        return config().count() > 0 || config().checkOnce() || meta().stateful();
+    }
+
+    @Override
+    public Optional<RequirementStatistics> statistics() {
+
+        return Optional.of(statistics);
+    }
+
     public Requirement<TTarget> requirement(Target<TTarget> target, ExecutionContext<RequirementContext<TTarget>> context) {
 
-        if (requirement != null) {
-            return requirement;
-        } else {
+        if (requirement != null) return requirement;
+
+        if (resolvedConfig == null) {
             return factory().create(artObjectConfig().resolve(scope(), target, context));
         }
+
+        if (!meta().shareable()) {
+            return factory().create(resolvedConfig);
+        }
+
+        Requirement<TTarget> requirement = staticRequirement;
+        if (requirement == null) {
+            requirement = factory().create(resolvedConfig);
+            staticRequirement = requirement;
+        }
+        return requirement;
     }
 
     @Override
@@ -96,18 +130,18 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
             }
         }
 
-        Result result = resultOf(requirement(target, context).test(target, context));
-
-        int currentCount = store(target, Constants.Storage.COUNT, Integer.class).orElse(0);
-        if (result.success()) {
-            store(target, Constants.Storage.COUNT, ++currentCount);
-        }
+        Result result = cacheDuration > 0 && !stateful() ? testCached(target, context) : testRequirement(target, context);
 
         if (config().checkOnce()) {
             store(target, Constants.Storage.CHECK_ONCE_RESULT, result);
         }
 
+        // only requirements with a count keep track of their successful checks
+        // all other requirements stay free of side effects
         if (config().count() > 0) {
+            int currentCount = result.success()
+                    ? increment(target, Constants.Storage.COUNT, 1)
+                    : count(target, Constants.Storage.COUNT);
             result = resultOf(currentCount >= config().count()).combine(result);
         }
 
@@ -125,4 +159,35 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
             return result.with(target, this);
         }
     }
+
+    private Result testCached(Target<TTarget> target, ExecutionContext<RequirementContext<TTarget>> context) {
+
+        RequirementCache cache = configuration().requirementCache().orElse(null);
+        if (cache == null) return testRequirement(target, context);
+
+        Optional<Result> cachedResult = cache.get(this, target);
+        if (cachedResult.isPresent()) return cachedResult.get();
+
+        Result result = testRequirement(target, context);
+        // errors are not cached to give the requirement a chance to recover on the next test
+        if (!result.error()) {
+            cache.put(this, target, result, cacheDuration);
+        }
+
+        return result;
+    }
+
+    private Result testRequirement(Target<TTarget> target, ExecutionContext<RequirementContext<TTarget>> context) {
+
+        ArtSettings settings = context.settings();
+        if (settings == null || !settings.adaptiveRequirementOrdering()) {
+            return resultOf(requirement(target, context).test(target, context));
+        }
+
+        long start = System.nanoTime();
+        Result result = resultOf(requirement(target, context).test(target, context));
+        statistics.record(System.nanoTime() - start, result.status());
+
+        return result;
+    }
 }
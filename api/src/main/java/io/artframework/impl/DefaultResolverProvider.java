@@ -2,10 +2,10 @@ package io.artframework.impl;
 
 import io.artframework.*;
 import io.artframework.util.ReflectionUtil;
+import io.artframework.util.TypeMap;
 import lombok.extern.java.Log;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -15,7 +15,7 @@ import java.util.stream.Collectors;
 public class DefaultResolverProvider extends AbstractProvider implements ResolverProvider {
 
     // resolved type class -> resolver class -> factory map
-    private final Map<Class<?>, Map<Class<?>, ResolverFactory<?>>> resolvers = new HashMap<>();
+    private final Map<Class<?>, Map<Class<?>, ResolverFactory<?>>> resolvers = new TypeMap<>();
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public DefaultResolverProvider(Scope scope) {
@@ -60,7 +60,7 @@ public class DefaultResolverProvider extends AbstractProvider implements Resolve
         ReflectionUtil.getInterfaceTypeArgument(resolverClass, Resolver.class, 0)
                 .ifPresent(typeClass -> {
                     try {
-                        resolvers.computeIfAbsent(typeClass, aClass -> new HashMap<>())
+                        resolvers.computeIfAbsent(typeClass, aClass -> new TypeMap<>())
                                 .putIfAbsent(resolverClass, ResolverFactory.of(scope(), resolverClass));
                         log.info("[REGISTERED] resolver: " + resolverClass.getCanonicalName() + " for type: " + typeClass.getCanonicalName());
                     } catch (ConfigurationException e) {
@@ -78,7 +78,7 @@ public class DefaultResolverProvider extends AbstractProvider implements Resolve
         ReflectionUtil.getInterfaceTypeArgument(resolverClass, Resolver.class, 0)
                 .ifPresent(typeClass -> {
                     try {
-                        resolvers.computeIfAbsent(typeClass, aClass -> new HashMap<>())
+                        resolvers.computeIfAbsent(typeClass, aClass -> new TypeMap<>())
                                 .putIfAbsent(resolverClass, ResolverFactory.of(scope(), resolverClass, supplier));
                     } catch (ConfigurationException e) {
                         log.severe("failed to register Resolver " + resolverClass.getCanonicalName() + ": " + e.getMessage());
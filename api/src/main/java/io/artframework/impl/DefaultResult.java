@@ -18,6 +18,7 @@ package io.artframework.impl;
 
 import io.artframework.Result;
 import io.artframework.ResultStatus;
+import lombok.NonNull;
 import lombok.Value;
 import lombok.experimental.Accessors;
 
@@ -25,6 +26,26 @@ import lombok.experimental.Accessors;
 @Accessors(fluent = true)
 public class DefaultResult implements Result {
 
+    private static final String[] NO_MESSAGES = new String[0];
+    private static final DefaultResult[] CONSTANTS = new DefaultResult[ResultStatus.values().length];
+
+    static {
+        for (ResultStatus status : ResultStatus.values()) {
+            CONSTANTS[status.ordinal()] = new DefaultResult(status, NO_MESSAGES);
+        }
+    }
+
+    /**
+     * Gets the shared result instance of the given status without any messages.
+     * <p>Results are immutable which allows sharing them instead of creating a new result for every check.
+     *
+     * @param status the status of the result
+     * @return the shared result without messages
+     */
+    public static DefaultResult of(@NonNull ResultStatus status) {
+        return CONSTANTS[status.ordinal()];
+    }
+
     ResultStatus status;
     String[] messages;
 }
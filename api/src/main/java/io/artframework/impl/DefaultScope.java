@@ -20,6 +20,7 @@ import io.artframework.*;
 import io.artframework.conf.Settings;
 import io.artframework.parser.flow.FlowLineParserProvider;
 import io.artframework.util.ReflectionUtil;
+import io.artframework.util.TypeMap;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import lombok.extern.java.Log;
@@ -42,12 +43,13 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
     private final BootstrapModule bootstrapModule;
     private final Map<Object, Object> data = new HashMap<>();
     // class of the provider to prover function mapping
-    private final Map<Class<?>, Function<Scope, ? extends Provider>> providerMap = new HashMap<>();
+    private final Map<Class<?>, Function<Scope, ? extends Provider>> providerMap = new TypeMap<>();
 
     private final Configuration.ConfigurationBuilder configurationBuilder = Configuration.builder()
             .actions(ActionProvider.of(this))
             .art(ArtProvider.of(this))
             .storage(StorageProvider.of(this))
+            .requirementCache(RequirementCache.of(this))
             .classLoader(getClass().getClassLoader())
             .finder(FinderProvider.of(this))
             .modules(ModuleProvider.getSourceModule(this))
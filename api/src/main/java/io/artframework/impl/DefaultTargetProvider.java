@@ -22,12 +22,12 @@ import io.artframework.Scope;
 import io.artframework.Target;
 import io.artframework.TargetProvider;
 import io.artframework.util.ReflectionUtil;
+import io.artframework.util.TypeMap;
 import lombok.NonNull;
 import lombok.extern.java.Log;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -36,7 +36,7 @@ import java.util.function.Function;
 public class DefaultTargetProvider extends AbstractProvider implements TargetProvider {
 
     @SuppressWarnings("rawtypes")
-    private final Map<Class<?>, Function> targetProviders = new HashMap<>();
+    private final Map<Class<?>, Function> targetProviders = new TypeMap<>();
 
     public DefaultTargetProvider(@NonNull Scope scope) {
         super(scope);
@@ -16,19 +16,37 @@
 
 package io.artframework.impl;
 
-import io.artframework.ArtObjectContext;
-import io.artframework.ResultStatus;
-import io.artframework.Target;
-import io.artframework.TargetResult;
+import io.artframework.*;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Value;
 import lombok.experimental.Accessors;
 
+/**
+ * Target result that wraps the original result and only reads its messages once they are requested.
+ */
 @Value
 @Accessors(fluent = true)
 public class DefaultTargetResult<TTarget, TContext extends ArtObjectContext<?>> implements TargetResult<TTarget, TContext> {
 
-    ResultStatus status;
-    String[] messages;
+    @Getter(AccessLevel.NONE)
+    Result result;
     Target<TTarget> target;
     TContext context;
+
+    public DefaultTargetResult(Result result, Target<TTarget> target, TContext context) {
+        this.result = result instanceof DefaultTargetResult ? ((DefaultTargetResult<?, ?>) result).result : result;
+        this.target = target;
+        this.context = context;
+    }
+
+    @Override
+    public ResultStatus status() {
+        return result.status();
+    }
+
+    @Override
+    public String[] messages() {
+        return result.messages();
+    }
 }
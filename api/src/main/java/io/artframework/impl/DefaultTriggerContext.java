@@ -20,6 +20,7 @@ import com.google.common.base.Strings;
 import io.artframework.*;
 import io.artframework.conf.Constants;
 import io.artframework.conf.TriggerConfig;
+import io.artframework.util.TargetClassIndex;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
@@ -34,15 +35,23 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     private final List<ActionContext<?>> actions = new ArrayList<>();
     @Getter
     private final List<RequirementContext<?>> requirements = new ArrayList<>();
+    private final TargetClassIndex<ActionContext<?>> actionIndex = new TargetClassIndex<>(this::actions);
+    private final TargetClassIndex<RequirementContext<?>> requirementIndex = new TargetClassIndex<>(this::requirements);
+    private final AdaptiveRequirementOrder requirementOrder = new AdaptiveRequirementOrder(requirementIndex);
     private final Map<Class<?>, Set<TriggerListener<?>>> listeners = new HashMap<>();
     @Getter
     private final Map<String, Variable<?>> variables = new HashMap<>();
     @Getter
     private final TriggerFactory factory;
     private final ConfigMap artObjectConfig;
+    // configs that do not depend on the target are resolved once when the context is created
+    private final ConfigMap resolvedConfig;
     @Getter
     private final TriggerConfig config;
     private final Trigger trigger;
+    // shareable triggers and their requirement wrapper are reused for every target if the config does not depend on the target
+    private volatile Trigger staticTrigger;
+    private volatile RequirementContext<?> staticRequirement;
 
     public DefaultTriggerContext(
             @NonNull Scope scope,
@@ -53,6 +62,7 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
         this.config = config;
         this.factory = factory;
         this.artObjectConfig = artObjectConfig;
+        this.resolvedConfig = artObjectConfig.isStatic(scope) ? artObjectConfig.resolve(scope, null, null) : null;
         this.trigger = null;
     }
 
@@ -63,6 +73,7 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
         this.trigger = trigger;
         this.factory = null;
         this.artObjectConfig = null;
+        this.resolvedConfig = null;
     }
 
     @Override
@@ -79,21 +90,53 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     public void addAction(ActionContext<?> action) {
 
         this.actions.add(action);
+        this.actionIndex.invalidate();
     }
 
     @Override
     public void addRequirement(RequirementContext<?> requirement) {
 
         this.requirements.add(requirement);
+        this.requirementIndex.invalidate();
+        this.requirementOrder.invalidate();
+    }
+
+    @Override
+    public Collection<ActionContext<?>> actions(Target<?> target) {
+
+        return actionIndex.get(target);
+    }
+
+    @Override
+    public Collection<RequirementContext<?>> requirements(Target<?> target) {
+
+        return requirementIndex.get(target);
+    }
+
+    @Override
+    public List<RequirementContext<?>> requirementOrder(Target<?> target) {
+
+        return requirementOrder.get(target);
     }
 
     public <TTarget> Trigger trigger(Target<TTarget> target, ExecutionContext<TriggerContext> context) {
 
-        if (trigger != null) {
-            return trigger;
-        } else {
+        if (trigger != null) return trigger;
+
+        if (resolvedConfig == null) {
             return factory().create(artObjectConfig.resolve(scope(), target, context));
         }
+
+        if (!meta().shareable()) {
+            return factory().create(resolvedConfig);
+        }
+
+        Trigger trigger = staticTrigger;
+        if (trigger == null) {
+            trigger = factory().create(resolvedConfig);
+            staticTrigger = trigger;
+        }
+        return trigger;
     }
 
     @Override
@@ -127,19 +170,33 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
                 return;
             }
 
+            // the requirements are tested once against all targets of the context
+            // and the outcome is shared by all targets that can execute
+            Boolean requirementsMet = null;
             for (Target<?> target : targets) {
-                if (cannotExecute(target)) continue;
+                long lastExecution = tracksExecution() ? getLastExecution(target) : 0;
+                if (cannotExecute(lastExecution)) continue;
 
-                if (testRequirements(context).success()) {
+                if (requirementsMet == null) {
+                    requirementsMet = testRequirements(context).success();
+                }
+
+                if (requirementsMet) {
+
+                    // the execution is claimed atomically and skipped if the trigger was executed in the meantime
+                    // the count is only increased after the claim to not count executions that were skipped
+                    long execution = System.currentTimeMillis();
+                    if (!claimExecution(target, lastExecution, execution)) continue;
 
                     if (increaseAndCheckCount(target)) {
-                        store(target, Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
 
                         if (config().executeActions()) {
-                            executeActions(target, context);
+                            executeActionsAndForget(target, context);
                         }
 
                         callListeners(context);
+                    } else {
+                        releaseExecution(target, lastExecution, execution);
                     }
                 }
             }
@@ -158,15 +215,30 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
 
         Trigger trigger = trigger(target, context);
         if (trigger instanceof Requirement) {
-            RequirementContext<?> requirementContext = RequirementContext.of(scope(), meta().get(), (Requirement<Object>) trigger, config);
+            RequirementContext<?> requirementContext = requirementContext(trigger);
             if (requirementContext.isTargetType(target)) {
-                return ((RequirementContext<TTarget>) requirementContext).test(target, context.next((RequirementContext<TTarget>) requirementContext)).success();
+                return context.test((RequirementContext<TTarget>) requirementContext, target).success();
             }
         }
 
         return true;
     }
 
+    @SuppressWarnings("unchecked")
+    private RequirementContext<?> requirementContext(Trigger trigger) {
+
+        if (trigger != this.trigger && trigger != staticTrigger) {
+            return RequirementContext.of(scope(), meta().get(), (Requirement<Object>) trigger, config);
+        }
+
+        RequirementContext<?> requirementContext = staticRequirement;
+        if (requirementContext == null) {
+            requirementContext = RequirementContext.of(scope(), meta().get(), (Requirement<Object>) trigger, config);
+            staticRequirement = requirementContext;
+        }
+        return requirementContext;
+    }
+
     @SuppressWarnings("unchecked")
     private <TTarget> void callListeners(ExecutionContext<TriggerContext> executionContext) {
         for (Map.Entry<Class<?>, Set<TriggerListener<?>>> entry : listeners.entrySet()) {
@@ -212,61 +284,87 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
         return this;
     }
 
-    private <TTarget> boolean cannotExecute(Target<TTarget> target) {
+    /**
+     * Stores the last execution if it is needed for the execute once or cooldown options.
+     * The last execution is only kept until the cooldown is over, unless the trigger can only be executed once.
+     *
+     * @param target the target that executes the trigger
+     * @param lastExecution the last execution the trigger was checked against
+     * @param execution the timestamp of this execution
+     * @return false if the trigger was executed for the target in the meantime
+     */
+    private <TTarget> boolean claimExecution(Target<TTarget> target, long lastExecution, long execution) {
+
+        if (!tracksExecution()) return true;
 
-        return wasExecutedOnce(target) || isOnCooldown(target);
+        return compareAndSetTimestamp(target, Constants.Storage.LAST_EXECUTION, lastExecution, execution, executionTtl());
     }
 
-    private <TTarget> boolean increaseAndCheckCount(Target<TTarget> target) {
+    /**
+     * Restores the last execution of a claimed execution that did not reach the required count.
+     *
+     * @param target the target that claimed the execution
+     * @param lastExecution the last execution before the claim
+     * @param execution the timestamp of the claimed execution
+     */
+    private <TTarget> void releaseExecution(Target<TTarget> target, long lastExecution, long execution) {
 
-        if (config().count() < 1) return true;
+        if (!tracksExecution()) return;
+
+        compareAndSetTimestamp(target, Constants.Storage.LAST_EXECUTION, execution, lastExecution, executionTtl());
+    }
+
+    private long executionTtl() {
+
+        return config().executeOnce() ? 0 : config().cooldown();
+    }
 
-        int count = count(target) + 1;
-        store(target, Constants.Storage.COUNT, count);
+    private boolean tracksExecution() {
 
-        return count >= config().count();
+        return config().executeOnce() || config().cooldown() > 0;
     }
 
-    private <TTarget> int count(Target<TTarget> target) {
+    private boolean cannotExecute(long lastExecution) {
 
-        if (config().count() < 1) return 0;
+        return wasExecutedOnce(lastExecution) || isOnCooldown(lastExecution);
+    }
+
+    private <TTarget> boolean increaseAndCheckCount(Target<TTarget> target) {
 
-        return store(target, Constants.Storage.COUNT, Integer.class).orElse(0);
+        if (config().count() < 1) return true;
+
+        return increment(target, Constants.Storage.COUNT, 1) >= config().count();
     }
 
     /**
      * Checks if the {@link DefaultActionContext} has the execute_once option
      * and already executed once for the {@link Target}.
      *
-     * @param target target to check
-     * @param <TTarget> target type
+     * @param lastExecution the last execution of the target
      * @return true if action was already executed and should only execute once
      */
-    private <TTarget> boolean wasExecutedOnce(Target<TTarget> target) {
+    private boolean wasExecutedOnce(long lastExecution) {
 
-        return this.config().executeOnce() && getLastExecution(target) > 0;
+        return this.config().executeOnce() && lastExecution > 0;
     }
 
     /**
      * Checks if the action is on cooldown for the given {@link Target}.
      * Will always return false if no cooldown is defined (set to zero).
      *
-     * @param target target to check
-     * @param <TTarget> target type
+     * @param lastExecution the last execution of the target
      * @return true if action is on cooldown
      */
-    private <TTarget> boolean isOnCooldown(Target<TTarget> target) {
+    private boolean isOnCooldown(long lastExecution) {
         long cooldown = this.config().cooldown();
         if (cooldown < 1) return false;
 
-        long lastExecution = getLastExecution(target);
-
         if (lastExecution < 1) return false;
 
         return System.currentTimeMillis() < lastExecution + cooldown;
     }
 
     private <TTarget> long getLastExecution(Target<TTarget> target) {
-        return store(target, Constants.Storage.LAST_EXECUTION, Long.class).orElse(0L);
+        return timestamp(target, Constants.Storage.LAST_EXECUTION);
     }
 }
@@ -18,7 +18,7 @@ package io.artframework.impl;
 
 import io.artframework.*;
 import io.artframework.util.ConfigUtil;
-import io.artframework.util.ReflectionUtil;
+import io.artframework.util.TypeMap;
 import lombok.NonNull;
 import lombok.extern.java.Log;
 
@@ -28,7 +28,8 @@ import java.util.*;
 public class DefaultTriggerProvider extends AbstractFactoryProvider<TriggerFactory> implements TriggerProvider, CombinedResultCreator {
 
     // trigger class -> context listeners
-    private final Map<Class<?>, Set<TriggerContext>> contextListeners = new HashMap<>();
+    // the arrays are copied on write and never modified to allow dispatching without copies
+    private final TypeMap<TriggerContext[]> contextListeners = new TypeMap<>();
 
     public DefaultTriggerProvider(Scope scope) {
         super(scope);
@@ -70,14 +71,35 @@ public class DefaultTriggerProvider extends AbstractFactoryProvider<TriggerFacto
     @Override
     public void register(TriggerContext context) {
 
-        contextListeners.computeIfAbsent(context.meta().artObjectClass(), aClass -> new HashSet<>()).add(context);
-        log.info("foo");
+        Class<?> triggerClass = context.meta().artObjectClass();
+        TriggerContext[] contexts = contextListeners.getOrDefault(triggerClass, new TriggerContext[0]);
+        for (TriggerContext triggerContext : contexts) {
+            if (triggerContext.equals(context)) return;
+        }
+
+        TriggerContext[] newContexts = Arrays.copyOf(contexts, contexts.length + 1);
+        newContexts[contexts.length] = context;
+        contextListeners.put(triggerClass, newContexts);
     }
 
     @Override
     public void unregister(TriggerContext context) {
 
-        contextListeners.computeIfAbsent(context.meta().artObjectClass(), aClass -> new HashSet<>()).remove(context);
+        Class<?> triggerClass = context.meta().artObjectClass();
+        TriggerContext[] contexts = contextListeners.get(triggerClass);
+        if (contexts == null) return;
+
+        TriggerContext[] newContexts = Arrays.stream(contexts)
+                .filter(triggerContext -> !triggerContext.equals(context))
+                .toArray(TriggerContext[]::new);
+
+        if (newContexts.length == contexts.length) return;
+
+        if (newContexts.length == 0) {
+            contextListeners.remove(triggerClass);
+        } else {
+            contextListeners.put(triggerClass, newContexts);
+        }
     }
 
     @Override
@@ -86,11 +108,22 @@ public class DefaultTriggerProvider extends AbstractFactoryProvider<TriggerFacto
         contextListeners.clear();
     }
 
+    @Override
+    public boolean hasListeners(@NonNull Class<? extends Trigger> triggerClass) {
+
+        return contextListeners.find(triggerClass).isPresent();
+    }
+
     @Override
     public <TTrigger extends Trigger> void execute(TriggerExecution<TTrigger> execution) {
 
-        ReflectionUtil.getEntryForTargetClass(execution.triggerClass(), contextListeners)
-                .ifPresent(triggerContexts -> triggerContexts.forEach(context -> context.trigger(execution.targets())));
+        TriggerContext[] contexts = contextListeners.find(execution.triggerClass()).orElse(null);
+        if (contexts == null) return;
+
+        Target<?>[] targets = execution.targets();
+        for (TriggerContext context : contexts) {
+            context.trigger(targets);
+        }
     }
 
     @Override
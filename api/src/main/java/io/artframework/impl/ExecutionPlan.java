@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The execution plan is compiled once when an {@link ArtContext} is created and partitions
+ * its {@link ArtObjectContext}s into plain arrays of requirements, actions and trigger.
+ * <p>Testing, executing and triggering the art context walks these arrays instead of
+ * filtering the list of all contexts on every call.
+ */
+@Getter
+@Accessors(fluent = true)
+final class ExecutionPlan {
+
+    static final ExecutionPlan EMPTY = new ExecutionPlan(new RequirementContext<?>[0], new ActionContext<?>[0], new TriggerContext[0]);
+
+    /**
+     * Compiles the given list of art object contexts into an immutable execution plan.
+     * <p>The order of the contexts is preserved inside each partition.
+     * A context that implements multiple context types will be part of each matching partition.
+     *
+     * @param contexts the art object contexts that should be compiled
+     * @return the compiled execution plan
+     */
+    static ExecutionPlan compile(Collection<ArtObjectContext<?>> contexts) {
+
+        if (contexts.isEmpty()) return EMPTY;
+
+        List<RequirementContext<?>> requirements = new ArrayList<>();
+        List<ActionContext<?>> actions = new ArrayList<>();
+        List<TriggerContext> triggers = new ArrayList<>();
+
+        for (ArtObjectContext<?> context : contexts) {
+            if (context instanceof RequirementContext) {
+                requirements.add((RequirementContext<?>) context);
+            }
+            if (context instanceof ActionContext) {
+                actions.add((ActionContext<?>) context);
+            }
+            if (context instanceof TriggerContext) {
+                triggers.add((TriggerContext) context);
+            }
+        }
+
+        return new ExecutionPlan(
+                requirements.toArray(new RequirementContext<?>[0]),
+                actions.toArray(new ActionContext<?>[0]),
+                triggers.toArray(new TriggerContext[0])
+        );
+    }
+
+    private final RequirementContext<?>[] requirements;
+    private final ActionContext<?>[] actions;
+    private final TriggerContext[] triggers;
+
+    private ExecutionPlan(RequirementContext<?>[] requirements, ActionContext<?>[] actions, TriggerContext[] triggers) {
+        this.requirements = requirements;
+        this.actions = actions;
+        this.triggers = triggers;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.Result;
+import io.artframework.ResultStatus;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.util.function.Supplier;
+
+/**
+ * A result whose message is only rendered once the messages of the result are requested.
+ * <p>Use it for messages that are expensive to build, e.g. formatted durations,
+ * on paths where the messages are rarely read.
+ */
+@Accessors(fluent = true)
+public final class LazyResult implements Result {
+
+    @Getter
+    private final ResultStatus status;
+    private final Supplier<String> message;
+    private volatile String[] messages;
+
+    public LazyResult(@NonNull ResultStatus status, @NonNull Supplier<String> message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    @Override
+    public String[] messages() {
+        String[] messages = this.messages;
+        if (messages == null) {
+            messages = new String[]{message.get()};
+            this.messages = messages;
+        }
+        return messages.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyResult(status=" + status + ")";
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.StorageKey;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Stores counters and timestamps as primitives instead of boxing them into a generic map.
+ * <p>The table uses open addressing with linear probing and keeps the keys,
+ * values, value types and expiry times in parallel arrays.
+ * Expired values are treated as missing and removed when they are accessed or by {@link #sweep()}.
+ * All operations are synchronized, which makes {@link #add(StorageKey, long, byte)}
+ * and {@link #compareAndSet(StorageKey, long, long, byte, long)} atomic.
+ */
+final class NumberTable {
+
+    static final byte LONG = 1;
+    static final byte INT = 2;
+
+    private final LongSupplier clock;
+    private StorageKey[] keys;
+    private long[] values;
+    private byte[] types;
+    // the time in milliseconds when the value expires, zero if it never expires
+    private long[] expires;
+    private int size;
+
+    NumberTable() {
+        this(16, System::currentTimeMillis);
+    }
+
+    NumberTable(int capacity, LongSupplier clock) {
+        this.clock = clock;
+        allocate(Math.max(2, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1));
+    }
+
+    /**
+     * @param value the value to get the type for
+     * @return the type of the value or zero if the value cannot be stored in the table
+     */
+    static byte typeOf(Object value) {
+        if (value instanceof Long) return LONG;
+        if (value instanceof Integer) return INT;
+        return 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean contains(StorageKey key) {
+        return find(key) >= 0;
+    }
+
+    @Nullable
+    synchronized Number get(StorageKey key) {
+        int slot = find(key);
+        return slot < 0 ? null : box(slot);
+    }
+
+    synchronized long get(StorageKey key, long defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Stores the value under the given key.
+     *
+     * @param expires the time when the value expires or zero if it never expires
+     * @return the boxed previous value or null if the key did not exist
+     */
+    @Nullable
+    synchronized Number put(StorageKey key, long value, byte type, long expires) {
+        int slot = find(key);
+        if (slot < 0) {
+            insert(key, value, type, expires);
+            return null;
+        }
+        Number previous = box(slot);
+        set(slot, value, type, expires);
+        return previous;
+    }
+
+    /**
+     * Adds the delta to the value of the key. A missing value starts at zero with the given type and never expires.
+     *
+     * @return the new value
+     */
+    synchronized long add(StorageKey key, long delta, byte type) {
+        int slot = find(key);
+        if (slot < 0) {
+            insert(key, delta, type, 0);
+            return delta;
+        }
+        return values[slot] += delta;
+    }
+
+    /**
+     * Stores the value only if the current value equals the expected one. A missing value is treated as zero.
+     *
+     * @param expires the time when the new value expires or zero if it never expires
+     * @return true if the value was stored
+     */
+    synchronized boolean compareAndSet(StorageKey key, long expected, long value, byte type, long expires) {
+        int slot = find(key);
+        if ((slot < 0 ? 0 : values[slot]) != expected) return false;
+        if (slot < 0) {
+            insert(key, value, type, expires);
+        } else {
+            set(slot, value, type, expires);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all expired values from the table.
+     *
+     * @return the number of removed values
+     */
+    synchronized int sweep() {
+        long now = clock.getAsLong();
+        List<StorageKey> expired = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && isExpired(i, now)) {
+                expired.add(keys[i]);
+            }
+        }
+        // collect the keys first, deleting an entry moves the following entries around
+        for (StorageKey key : expired) {
+            int slot = indexOf(key);
+            if (slot >= 0) delete(slot);
+        }
+        return expired.size();
+    }
+
+    @Nullable
+    synchronized Number remove(StorageKey key) {
+        int slot = find(key);
+        if (slot < 0) return null;
+        Number previous = box(slot);
+        delete(slot);
+        return previous;
+    }
+
+    synchronized void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    private Number box(int slot) {
+        return types[slot] == INT ? (Number) (int) values[slot] : (Number) values[slot];
+    }
+
+    private int home(StorageKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    // finds the slot of the key and removes the value if it expired
+    private int find(StorageKey key) {
+        int slot = indexOf(key);
+        if (slot >= 0 && isExpired(slot, clock.getAsLong())) {
+            delete(slot);
+            return -1;
+        }
+        return slot;
+    }
+
+    private int indexOf(StorageKey key) {
+        int mask = keys.length - 1;
+        for (int i = home(key); keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(key)) return i;
+        }
+        return -1;
+    }
+
+    private boolean isExpired(int slot, long now) {
+        return expires[slot] != 0 && expires[slot] <= now;
+    }
+
+    private void set(int slot, long value, byte type, long expires) {
+        this.values[slot] = value;
+        this.types[slot] = type;
+        this.expires[slot] = expires;
+    }
+
+    private void insert(StorageKey key, long value, byte type, long expires) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int i = home(key);
+        while (keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        set(i, value, type, expires);
+        size++;
+    }
+
+    // shifts the following entries of the probe sequence back instead of leaving a tombstone
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int free = slot;
+        keys[free] = null;
+        for (int i = (free + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            int home = home(keys[i]);
+            boolean reachable = free <= i ? free < home && home <= i : free < home || home <= i;
+            if (reachable) continue;
+            keys[free] = keys[i];
+            set(free, values[i], types[i], expires[i]);
+            keys[i] = null;
+            free = i;
+        }
+        size--;
+    }
+
+    private void resize() {
+        StorageKey[] oldKeys = keys;
+        long[] oldValues = values;
+        byte[] oldTypes = types;
+        long[] oldExpires = expires;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i], oldTypes[i], oldExpires[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new StorageKey[capacity];
+        values = new long[capacity];
+        types = new byte[capacity];
+        expires = new long[capacity];
+        size = 0;
+    }
+}
@@ -27,4 +27,24 @@ public class VariableReplacement implements Replacement {
 
         return value;
     }
+
+    @Override
+    public boolean placeholderOnly() {
+
+        return true;
+    }
+
+    @Override
+    public String replacePlaceholder(String placeholder, ReplacementContext context) {
+
+        Variable<?> variable = context.executionContext()
+                .map(executionContext -> executionContext.variables().get(placeholder))
+                .orElse(null);
+
+        if (variable == null) return null;
+        if (!String.class.isAssignableFrom(variable.type()) && !ClassUtils.isPrimitiveOrWrapper(variable.type())) return null;
+
+        Object value = variable.value();
+        return value == null ? null : value.toString();
+    }
 }
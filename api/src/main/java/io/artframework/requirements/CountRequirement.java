@@ -27,19 +27,20 @@ import lombok.NonNull;
         description = {
                 "This requirement returns true once it has been checked as often as defined in the count.",
                 "You also have some additional options to send messages to the player informing him about the counter."
-        }
+        },
+        shareable = true,
+        stateful = true
 )
 public class CountRequirement implements GenericRequirement {
 
     private static final String COUNTER_KEY = "count";
 
     @ConfigOption(description = "Set how often this requirement must be checked before it is successful.")
-    private final String count = "0";
+    private String count = "0";
 
     @Override
     public Result test(@NonNull Target<Object> target, @NonNull ExecutionContext<RequirementContext<Object>> context) {
-        final int currentCount = context.store(target, COUNTER_KEY, Integer.class).orElse(0) + 1;
-        context.store(target, COUNTER_KEY, currentCount);
+        final int currentCount = context.increment(target, COUNTER_KEY, 1);
 
         return resultOf(new ModifierMatcher(count).matches(currentCount));
     }
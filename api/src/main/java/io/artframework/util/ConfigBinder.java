@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The config binder sets the values of config fields without looking up the fields by reflection every time.
+ * <p>There is one binder per config class. It creates a method handle for every field the first time
+ * the field is set and reuses it for every following config object of the same class.
+ */
+public final class ConfigBinder {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<ConfigBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected ConfigBinder computeValue(Class<?> type) {
+            return new ConfigBinder(type);
+        }
+    };
+
+    /**
+     * Gets the binder of the given config class.
+     *
+     * @param configClass the class of the config object
+     * @return the binder of the config class
+     */
+    public static ConfigBinder of(Class<?> configClass) {
+
+        return BINDERS.get(configClass);
+    }
+
+    private final Class<?> configClass;
+    private final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+
+    private ConfigBinder(Class<?> configClass) {
+        this.configClass = configClass;
+    }
+
+    /**
+     * Sets the value of the field with the given name.
+     *
+     * @param config the config object to set the value on
+     * @param name the name of the field declared by the config class or one of its super classes
+     * @param value the new value of the field
+     * @throws ReflectiveOperationException if the field does not exist or cannot be set
+     */
+    public void set(Object config, String name, Object value) throws ReflectiveOperationException {
+
+        Binding binding = binding(name);
+        try {
+            binding.setter.invokeExact(config, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Gets the nested config object stored in the field with the given name.
+     * <p>A new instance of the field type is created and stored if the field is empty.
+     *
+     * @param config the config object that holds the nested config
+     * @param name the name of the field that holds the nested config
+     * @return the existing or created nested config object
+     * @throws ReflectiveOperationException if the field does not exist or the nested config cannot be created
+     */
+    public Object nested(Object config, String name) throws ReflectiveOperationException {
+
+        Binding binding = binding(name);
+        try {
+            Object nestedConfig = binding.getter.invokeExact(config);
+            if (nestedConfig == null) {
+                nestedConfig = binding.constructor().invokeExact();
+                binding.setter.invokeExact(config, nestedConfig);
+            }
+            return nestedConfig;
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private Binding binding(String name) throws ReflectiveOperationException {
+
+        Binding binding = bindings.get(name);
+        if (binding != null) return binding;
+
+        Field field = ReflectionUtil.getDeclaredField(configClass, name)
+                .orElseThrow(() -> new NoSuchFieldException("No field with the name " + name + " found in: " + configClass.getCanonicalName()));
+        field.setAccessible(true);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        binding = new Binding(
+                field,
+                lookup.unreflectSetter(field).asType(SETTER_TYPE),
+                lookup.unreflectGetter(field).asType(GETTER_TYPE)
+        );
+        bindings.put(name, binding);
+
+        return binding;
+    }
+
+    private static final class Binding {
+
+        private final Field field;
+        private final MethodHandle setter;
+        private final MethodHandle getter;
+        private volatile MethodHandle constructor;
+
+        private Binding(Field field, MethodHandle setter, MethodHandle getter) {
+            this.field = field;
+            this.setter = setter;
+            this.getter = getter;
+        }
+
+        private MethodHandle constructor() throws ReflectiveOperationException {
+
+            MethodHandle constructor = this.constructor;
+            if (constructor == null) {
+                Constructor<?> typeConstructor = field.getType().getConstructor();
+                typeConstructor.setAccessible(true);
+                constructor = MethodHandles.lookup()
+                        .unreflectConstructor(typeConstructor)
+                        .asType(CONSTRUCTOR_TYPE);
+                this.constructor = constructor;
+            }
+            return constructor;
+        }
+    }
+}
@@ -22,8 +22,11 @@ import lombok.NonNull;
 import lombok.extern.java.Log;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -116,6 +119,7 @@ public final class ReflectionUtil {
 
     /**
      * Takes the given map and class and tries to extract the nearest possible type match for the class in the map.
+     * <p>Use a {@link TypeMap} to memoize the lookup per class instead of scanning the whole map on every miss.
      *
      * @param targetClass the target class and matching key of the map
      * @param map the map to extract
@@ -124,6 +128,10 @@ public final class ReflectionUtil {
      */
     public static <TResult> Optional<TResult> getEntryForTargetClass(@NonNull Class<?> targetClass, @NonNull Map<Class<?>, TResult> map) {
 
+        if (map instanceof TypeMap) {
+            return ((TypeMap<TResult>) map).find(targetClass);
+        }
+
         if (map.containsKey(targetClass)) {
             return Optional.ofNullable(map.get(targetClass));
         }
@@ -227,9 +235,15 @@ public final class ReflectionUtil {
      */
     public static Optional<Field> getDeclaredField(Class<?> type, String name) {
 
-        return getAllFields(type, new ArrayList<>()).stream()
-                .filter(field -> field.getName().equals(name))
-                .findFirst();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return Optional.of(current.getDeclaredField(name));
+            } catch (NoSuchFieldException ignored) {
+                // continue with the super class
+            }
+        }
+
+        return Optional.empty();
     }
 
     /**
@@ -267,4 +281,95 @@ public final class ReflectionUtil {
 
         return methods;
     }
+
+    /**
+     * Creates a supplier that calls the parameterless constructor of the given class.
+     * <p>The supplier is generated with the {@link LambdaMetafactory} if possible, which makes
+     * creating an instance as fast as calling the constructor directly.
+     * Otherwise the constructor is called through a method handle.
+     *
+     * @param type the class that should be instantiated
+     * @param <TObject> type of the object
+     * @return a supplier that creates a new instance for every call
+     * @throws ReflectiveOperationException if the class has no parameterless constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <TObject> Supplier<TObject> getConstructorSupplier(@NonNull Class<TObject> type) throws ReflectiveOperationException {
+
+        MethodHandle constructor = constructorHandle(type.getDeclaredConstructor());
+        Supplier<TObject> supplier = (Supplier<TObject>) generateLambda(type, constructor, Supplier.class, "get");
+        if (supplier != null) return supplier;
+
+        MethodHandle handle = constructor.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return (TObject) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    /**
+     * Creates a function that calls the constructor with the single given parameter of the class.
+     *
+     * @param type the class that should be instantiated
+     * @param parameterType the type of the only parameter of the constructor
+     * @param <TObject> type of the object
+     * @param <TParameter> type of the parameter
+     * @return a function that creates a new instance for every call
+     * @throws ReflectiveOperationException if the class has no matching constructor
+     * @see #getConstructorSupplier(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public static <TObject, TParameter> Function<TParameter, TObject> getConstructorFunction(@NonNull Class<TObject> type, @NonNull Class<? super TParameter> parameterType) throws ReflectiveOperationException {
+
+        MethodHandle constructor = constructorHandle(type.getDeclaredConstructor(parameterType));
+        Function<TParameter, TObject> function = (Function<TParameter, TObject>) generateLambda(type, constructor, Function.class, "apply");
+        if (function != null) return function;
+
+        MethodHandle handle = constructor.asType(MethodType.methodType(Object.class, Object.class));
+        return parameter -> {
+            try {
+                return (TObject) handle.invokeExact((Object) parameter);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    private static MethodHandle constructorHandle(Constructor<?> constructor) throws IllegalAccessException {
+
+        constructor.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+
+    @Nullable
+    private static Object generateLambda(Class<?> type, MethodHandle constructor, Class<?> functionalInterface, String methodName) {
+
+        if (Modifier.isAbstract(type.getModifiers())) return null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            MethodHandle implementation = lookup.findConstructor(type, constructor.type().changeReturnType(void.class));
+            MethodType erasedType = constructor.type().erase();
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    methodName,
+                    MethodType.methodType(functionalInterface),
+                    erasedType,
+                    implementation,
+                    constructor.type()
+            );
+            return callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            // the lookup may not have access to the class, e.g. if it is defined in a different module
+            log.finest("unable to generate a constructor lambda for " + type.getCanonicalName() + ": " + e.getMessage());
+            return null;
+        }
+    }
 }
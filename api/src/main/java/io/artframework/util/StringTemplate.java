@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import io.artframework.Replacement;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A string template is a string that was split into its literal parts and the placeholders
+ * between them, e.g. <code>Hi ${player}!</code> consists of the literals <code>Hi </code> and <code>!</code>
+ * and the placeholder <code>player</code>.
+ * <p>Compile the template once and render it as often as needed in a single pass
+ * without searching the string for placeholders again.
+ *
+ * @see Replacement#PLACEHOLDER_PREFIX
+ */
+@Accessors(fluent = true)
+@EqualsAndHashCode(of = "source")
+public final class StringTemplate {
+
+    private static final String PLACEHOLDER_SUFFIX = "}";
+
+    /**
+     * Parses the given string into a template.
+     *
+     * @param source the string that may contain placeholders
+     * @return the compiled template
+     */
+    public static StringTemplate compile(@NonNull String source) {
+
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int position = 0;
+        int start;
+        while ((start = source.indexOf(Replacement.PLACEHOLDER_PREFIX, position)) >= 0) {
+            int end = source.indexOf(PLACEHOLDER_SUFFIX, start + Replacement.PLACEHOLDER_PREFIX.length());
+            if (end < 0) break;
+
+            literals.add(source.substring(position, start));
+            placeholders.add(source.substring(start + Replacement.PLACEHOLDER_PREFIX.length(), end));
+            position = end + PLACEHOLDER_SUFFIX.length();
+        }
+        literals.add(source.substring(position));
+
+        return new StringTemplate(source, literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * The string this template was compiled from.
+     */
+    @Getter
+    private final String source;
+    // there is always one more literal than placeholders, the literals may be empty
+    private final String[] literals;
+    private final String[] placeholders;
+
+    private StringTemplate(String source, String[] literals, String[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * @return true if the template does not contain any placeholders and always renders its source
+     */
+    public boolean constant() {
+
+        return placeholders.length == 0;
+    }
+
+    /**
+     * @return the keys of all placeholders in this template without the placeholder prefix and suffix
+     */
+    public List<String> placeholders() {
+
+        return Collections.unmodifiableList(Arrays.asList(placeholders));
+    }
+
+    /**
+     * Renders the template by replacing every placeholder with the value provided by the resolver.
+     * <p>The placeholder is kept as is if the resolver returns null.
+     *
+     * @param resolver function that provides the value for the key of a placeholder
+     * @return the rendered string
+     */
+    public String render(@NonNull Function<String, String> resolver) {
+
+        if (constant()) return source;
+
+        StringBuilder builder = new StringBuilder(source.length());
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            String value = resolver.apply(placeholders[i]);
+            if (value == null) {
+                builder.append(Replacement.PLACEHOLDER_PREFIX).append(placeholders[i]).append(PLACEHOLDER_SUFFIX);
+            } else {
+                builder.append(value);
+            }
+        }
+        builder.append(literals[placeholders.length]);
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
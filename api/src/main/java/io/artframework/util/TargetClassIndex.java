@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import io.artframework.Target;
+import io.artframework.TargetHolder;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Indexes a list of {@link TargetHolder}s by the concrete class of the targets they accept.
+ * <p>The index is built lazily for every concrete target class that is requested
+ * and cached in a map owned by the index. Subsequent lookups for the same class return the
+ * cached list of matching holders without checking the target type of every holder again.
+ * <p>Call {@link #invalidate()} whenever the underlying list of holders changes.
+ * <p>The cache is not stored in a {@link ClassValue}: its values reference the holders and through them
+ * the class loaders of modules, which would pin the target classes and prevent the modules from being unloaded.
+ *
+ * @param <THolder> the type of the indexed target holders
+ */
+public final class TargetClassIndex<THolder extends TargetHolder> {
+
+    private final Supplier<? extends Collection<? extends THolder>> holders;
+    private volatile Map<Class<?>, List<THolder>> index = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new index over the holders provided by the given supplier.
+     * <p>The supplier is called every time the index is rebuilt for a new target class.
+     *
+     * @param holders the supplier of the holders that should be indexed
+     */
+    public TargetClassIndex(@NonNull Supplier<? extends Collection<? extends THolder>> holders) {
+        this.holders = holders;
+    }
+
+    /**
+     * Gets all holders that accept the source of the given target, keeping their original order.
+     *
+     * @param target the target to get the matching holders for
+     * @return an immutable list of matching holders. may be empty but is never null.
+     */
+    public List<THolder> get(@NonNull Target<?> target) {
+
+        return get(target.source().getClass());
+    }
+
+    /**
+     * Gets all holders that accept targets of the given concrete class, keeping their original order.
+     *
+     * @param targetClass the concrete class of the target source
+     * @return an immutable list of matching holders. may be empty but is never null.
+     */
+    public List<THolder> get(@NonNull Class<?> targetClass) {
+
+        return index.computeIfAbsent(targetClass, this::computeValue);
+    }
+
+    /**
+     * Discards all cached lookups forcing the index to be rebuilt on the next lookup.
+     * <p>Must be called after a holder was added or removed from the underlying collection.
+     */
+    public void invalidate() {
+
+        // a new map is used to not keep values of lookups that were computed while invalidating
+        this.index = new ConcurrentHashMap<>();
+    }
+
+    private List<THolder> computeValue(Class<?> type) {
+
+        List<THolder> result = new ArrayList<>();
+        for (THolder holder : holders.get()) {
+            Class<?> holderTargetClass = holder.targetClass();
+            // holders without a target class decide for themselves if they accept the target
+            if (holderTargetClass == null || holderTargetClass.isAssignableFrom(type)) {
+                result.add(holder);
+            }
+        }
+
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+}
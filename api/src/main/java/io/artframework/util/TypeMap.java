@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A map keyed by classes that resolves the entry of the nearest registered supertype of any class.
+ * <p>The resolution is memoized per looked up class in a map owned by the type map.
+ * A {@link ClassValue} is not used, because its values would keep the class loaders of the registered values alive.
+ * The memoized lookups are discarded every time a key is added to or removed from the map.
+ * Changing the values of existing keys, e.g. adding elements to a value collection, keeps them.
+ * <p>Like a {@link HashMap} this map is not thread safe and must be synchronized externally
+ * if it is modified concurrently.
+ *
+ * @param <TValue> type of the values of the map
+ * @see ReflectionUtil#getEntryForTargetClass(Class, Map)
+ */
+public final class TypeMap<TValue> extends AbstractMap<Class<?>, TValue> {
+
+    private final Map<Class<?>, TValue> map = new HashMap<>();
+    private volatile Map<Class<?>, Optional<TValue>> lookup = new ConcurrentHashMap<>();
+
+    /**
+     * Finds the value of the given class or the value of its nearest registered supertype.
+     *
+     * @param type the class to find the value for
+     * @return the value of the nearest matching key or an empty optional if no key matches
+     */
+    public Optional<TValue> find(@NonNull Class<?> type) {
+
+        return lookup.computeIfAbsent(type, key -> ReflectionUtil.getEntryForTargetClass(key, map));
+    }
+
+    @Override
+    public int size() {
+
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+
+        return map.containsKey(key);
+    }
+
+    @Override
+    public TValue get(Object key) {
+
+        return map.get(key);
+    }
+
+    @Override
+    public TValue put(Class<?> key, TValue value) {
+
+        TValue previous = map.put(key, value);
+        invalidate();
+        return previous;
+    }
+
+    @Override
+    public TValue remove(Object key) {
+
+        if (!map.containsKey(key)) return null;
+
+        TValue previous = map.remove(key);
+        invalidate();
+        return previous;
+    }
+
+    @Override
+    public TValue computeIfAbsent(Class<?> key, Function<? super Class<?>, ? extends TValue> mappingFunction) {
+
+        TValue value = map.get(key);
+        if (value != null) return value;
+
+        value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+
+        map.clear();
+        invalidate();
+    }
+
+    @Override
+    public Set<Entry<Class<?>, TValue>> entrySet() {
+
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    private void invalidate() {
+
+        this.lookup = new ConcurrentHashMap<>();
+    }
+}
@@ -16,11 +16,13 @@
 
 package io.artframework;
 
+import io.artframework.conf.RequirementConfig;
 import io.artframework.integration.data.Block;
 import io.artframework.integration.data.Location;
 import io.artframework.integration.data.Player;
 import io.artframework.integration.targets.BlockTarget;
 import io.artframework.integration.targets.PlayerTarget;
+import io.artframework.requirements.CountRequirement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,8 +31,7 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
 class RequirementHolderTest implements CombinedResultCreator {
@@ -112,6 +113,79 @@ class RequirementHolderTest implements CombinedResultCreator {
                 .contains(ResultStatus.FAILURE);
     }
 
+    @Test
+    @DisplayName("should stop testing requirements after the first failure if short circuit is enabled")
+    void shouldShortCircuitAfterFirstFailure() {
+
+        RequirementContext<Player> failing = requirement(Player.class, failure());
+        RequirementContext<Player> skipped = requirement(Player.class, success());
+        requirementHolder.addRequirement(failing);
+        requirementHolder.addRequirement(skipped);
+
+        Scope scope = Scope.defaultScope();
+        scope.settings().artSettings().shortCircuitRequirements(true);
+        CombinedResult result = requirementHolder.testRequirements(ExecutionContext.of(scope, null, new PlayerTarget(new Player())));
+
+        assertThat(result.failure()).isTrue();
+        verify(failing, times(1)).test(any(), any());
+        verify(skipped, never()).test(any(), any());
+    }
+
+    @Test
+    @DisplayName("should still test stateful requirements if short circuit is enabled")
+    void shouldTestStatefulRequirementsWhenShortCircuiting() {
+
+        RequirementContext<Player> failing = requirement(Player.class, failure());
+        RequirementContext<Player> stateful = requirement(Player.class, success());
+        when(stateful.stateful()).thenReturn(true);
+        requirementHolder.addRequirement(failing);
+        requirementHolder.addRequirement(stateful);
+
+        Scope scope = Scope.defaultScope();
+        scope.settings().artSettings().shortCircuitRequirements(true);
+        CombinedResult result = requirementHolder.testRequirements(ExecutionContext.of(scope, null, new PlayerTarget(new Player())));
+
+        assertThat(result.failure()).isTrue();
+        verify(stateful, times(1)).test(any(), any());
+    }
+
+    @Test
+    @DisplayName("should still increase the counter of the count requirement if short circuit is enabled")
+    void shouldIncreaseCountWhenShortCircuiting() throws Exception {
+
+        Scope scope = Scope.defaultScope();
+        scope.settings().artSettings().shortCircuitRequirements(true);
+        RequirementContext<Object> count = RequirementContext.of(
+                scope,
+                new RequirementConfig(),
+                RequirementFactory.of(scope, (ArtObjectMeta) ArtObjectMeta.of(scope, CountRequirement.class)),
+                ConfigMap.of(CountRequirement.class)
+        );
+        requirementHolder.addRequirement(requirement(Player.class, failure()));
+        requirementHolder.addRequirement(count);
+
+        PlayerTarget target = new PlayerTarget(new Player());
+        requirementHolder.testRequirements(ExecutionContext.of(scope, null, target));
+        requirementHolder.testRequirements(ExecutionContext.of(scope, null, target));
+
+        assertThat(count.stateful()).isTrue();
+        assertThat(count.store(target, "count", Integer.class)).contains(2);
+    }
+
+    @Test
+    @DisplayName("should test all requirements if short circuit is disabled")
+    void shouldTestAllRequirementsByDefault() {
+
+        RequirementContext<Player> failing = requirement(Player.class, failure());
+        RequirementContext<Player> other = requirement(Player.class, success());
+        requirementHolder.addRequirement(failing);
+        requirementHolder.addRequirement(other);
+
+        requirementHolder.testRequirements(executionContext(new PlayerTarget(new Player())));
+
+        verify(other, times(1)).test(any(), any());
+    }
+
     static class TestRequirementHolder implements RequirementHolder {
 
         private final List<RequirementContext<?>> requirements = new ArrayList<>();
@@ -24,6 +24,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -87,6 +92,158 @@ class ResultTest implements ResultCreator {
                             Tuple.tuple(barTarget, ResultStatus.FAILURE)
                     );
         }
+
+        @Test
+        @DisplayName("should omit empty results if any result is not empty")
+        void shouldOmitEmptyResults() {
+
+            CombinedResult result = empty().combine(success("foo")).combine(empty());
+
+            assertThat(result.results()).hasSize(1);
+            assertThat(result.status()).isEqualTo(ResultStatus.SUCCESS);
+            assertThat(CombinedResult.of(empty(), empty()).status()).isEqualTo(ResultStatus.EMPTY);
+        }
+
+        @Test
+        @DisplayName("should flatten nested results in order with unique messages")
+        void shouldFlattenNestedResults() {
+
+            Result first = success("foo");
+            Result second = failure("bar");
+            Result third = success("foo");
+
+            CombinedResult result = first.combine(CombinedResult.of(second).combine(third));
+
+            assertThat(result.results()).containsExactly(first, second, third);
+            assertThat(result.messages()).containsExactly("foo", "bar");
+            assertThat(result.status()).isEqualTo(ResultStatus.FAILURE);
+        }
+
+        @Test
+        @DisplayName("should not modify the combined results")
+        void shouldNotModifyCombinedResults() {
+
+            CombinedResult base = CombinedResult.of(success());
+            CombinedResult failed = base.combine(failure());
+            CombinedResult succeeded = base.combine(success());
+
+            assertThat(base.results()).hasSize(1);
+            assertThat(failed.failure()).isTrue();
+            assertThat(succeeded.results()).hasSize(2);
+            assertThat(succeeded.success()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("of(...)")
+    class Of {
+
+        @Test
+        @DisplayName("should share results without messages")
+        void shouldShareResultsWithoutMessages() {
+
+            assertThat(success()).isSameAs(success());
+            assertThat(failure()).isSameAs(resultOf(false));
+            assertThat(success("foo")).isNotSameAs(success("foo"));
+        }
+
+        @Test
+        @DisplayName("should only render lazy messages once they are read")
+        void shouldRenderLazyMessagesOnRead() {
+
+            List<String> calls = new ArrayList<>();
+            TargetResult<Player, ?> result = failure(() -> {
+                calls.add("rendered");
+                return "foo";
+            }).with(PlayerTarget.mock("foo"), mock(ArtObjectContext.class));
+
+            assertThat(result.failure()).isTrue();
+            assertThat(calls).isEmpty();
+
+            assertThat(result.messages()).containsExactly("foo");
+            assertThat(result.messages()).containsExactly("foo");
+            assertThat(calls).containsExactly("rendered");
+        }
+    }
+
+    @Nested
+    @DisplayName("FutureResult")
+    class Future {
+
+        @Test
+        @DisplayName("should call late consumers exactly once")
+        void shouldOnlyCallNewConsumerAfterCompletion() {
+
+            List<String> calls = new ArrayList<>();
+            FutureResult result = FutureResult.empty();
+            result.onCompletion(combinedResult -> calls.add("first"));
+            result.complete(success());
+            result.onCompletion(combinedResult -> calls.add("second"));
+
+            assertThat(calls).containsExactly("first", "second");
+        }
+
+        @Test
+        @DisplayName("should only accept the first completion")
+        void shouldOnlyCompleteOnce() {
+
+            FutureResult result = FutureResult.empty();
+            List<CombinedResult> results = new ArrayList<>();
+            result.onCompletion(results::add);
+
+            result.complete(success());
+            result.complete(failure());
+
+            assertThat(results).hasSize(1);
+            assertThat(result.success()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should call the consumers of all combined results")
+        void shouldCallCombinedConsumers() {
+
+            List<String> calls = new ArrayList<>();
+            FutureResult first = FutureResult.empty();
+            first.onCompletion(combinedResult -> calls.add("first"));
+            FutureResult second = FutureResult.empty();
+            second.onCompletion(combinedResult -> calls.add("second"));
+
+            FutureResult combined = first.combine(second);
+            combined.complete(success());
+
+            assertThat(calls).containsExactly("first", "second");
+            assertThat(combined.consumers()).hasSize(2);
+            assertThat(first.isComplete()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should run consumers with the given executor")
+        void shouldRunConsumersWithExecutor() {
+
+            List<Runnable> tasks = new ArrayList<>();
+            Executor executor = tasks::add;
+            List<CombinedResult> results = new ArrayList<>();
+            FutureResult result = FutureResult.empty();
+            result.onCompletion(results::add, executor);
+
+            result.complete(success());
+            assertThat(results).isEmpty();
+
+            tasks.forEach(Runnable::run);
+            assertThat(results).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should complete the completion stage")
+        void shouldCompleteCompletionStage() {
+
+            FutureResult result = FutureResult.empty();
+            CompletableFuture<CombinedResult> stage = result.completionStage().toCompletableFuture();
+
+            assertThat(stage).isNotDone();
+            result.complete(failure());
+            assertThat(stage.join().failure()).isTrue();
+        }
     }
 
     @Nested
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import io.artframework.integration.actions.TextAction;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.targets.PlayerTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ALL")
+class StorageKeyTest {
+
+    private ArtObjectContext<?> context;
+    private PlayerTarget target;
+
+    @BeforeEach
+    void setUp() {
+        ArtObjectMeta meta = mock(ArtObjectMeta.class);
+        when(meta.artObjectClass()).thenReturn(TextAction.class);
+        context = mock(ArtObjectContext.class);
+        when(context.uniqueId()).thenReturn("context");
+        when(context.storageKey()).thenReturn("storage");
+        when(context.meta()).thenReturn(meta);
+        target = new PlayerTarget(new Player());
+    }
+
+    @Test
+    @DisplayName("should keep the string format of the key")
+    void shouldKeepStringFormat() {
+
+        assertThat(StorageKey.of("foo")).hasToString("foo");
+        assertThat(StorageKey.of(target, "foo")).hasToString("target#" + target.uniqueId() + "#foo");
+        assertThat(StorageKey.of(context, target, "foo"))
+                .hasToString("context#storage#" + target.uniqueId() + "#foo");
+    }
+
+    @Test
+    @DisplayName("should be equal to keys with the same parts")
+    void shouldBeEqual() {
+
+        StorageKey prefix = StorageKey.of(context);
+
+        assertThat(prefix.with(target, "foo"))
+                .isEqualTo(StorageKey.of(context, target, "foo"))
+                .hasSameHashCodeAs(StorageKey.of(context, target, "foo"))
+                .isNotEqualTo(prefix.with(target, "bar"))
+                .isNotEqualTo(prefix.with(new PlayerTarget(new Player()), "foo"))
+                .isNotEqualTo(StorageKey.of(target, "foo"));
+        assertThat(StorageKey.of(target, "foo")).isNotEqualTo(StorageKey.of("foo"));
+        assertThat(StorageKey.of("context", null, "storage", target.uniqueId(), "foo"))
+                .isEqualTo(StorageKey.of(context, target, "foo"));
+    }
+
+    @Test
+    @DisplayName("should share the context parts between the keys of a context")
+    void shouldShareContext() {
+
+        StorageKey key = StorageKey.of(context).with(target, "foo");
+
+        assertThat(key.context()).isEqualTo("context");
+        assertThat(key.storageKey()).isEqualTo("storage");
+        assertThat(key.contextType()).isEqualTo(TextAction.class.getCanonicalName());
+        assertThat(key.target()).isEqualTo(target.uniqueId());
+        assertThat(key.key()).isEqualTo("foo");
+        verify(context, times(1)).uniqueId();
+    }
+
+    @Test
+    @DisplayName("should store values by the structured key in the default storage")
+    void shouldStoreByKey() {
+
+        StorageProvider storage = StorageProvider.of(mock(Scope.class));
+
+        storage.set(context, target, "foo", 1);
+        storage.set("global", 2);
+
+        assertThat(storage.get(StorageKey.of(context, target, "foo"), Integer.class)).contains(1);
+        assertThat(storage.get(context, target, "foo", Integer.class)).contains(1);
+        assertThat(storage.get(target, "foo", Integer.class)).isEmpty();
+        assertThat(storage.get(StorageKey.of("global"), Integer.class)).contains(2);
+    }
+}
@@ -2,7 +2,9 @@ package io.artframework.conf;
 
 import io.artframework.ConfigMap;
 import io.artframework.ConfigurationException;
+import io.artframework.Scope;
 import io.artframework.annotations.ConfigOption;
+import io.artframework.impl.DefaultScope;
 import io.artframework.util.ConfigUtil;
 import io.artframework.util.ConfigUtilTest;
 import lombok.Data;
@@ -223,6 +225,42 @@ class ConfigMapTest {
 
     }
 
+    @Test
+    @DisplayName("should only be static if no value contains a placeholder")
+    void shouldDetectStaticConfigs() throws ConfigurationException {
+
+        assertThat(ConfigMap.of(SingleFieldConfig.class).isStatic()).isTrue();
+        assertThat(ConfigMap.of(SingleFieldConfig.class)
+                .with(Arrays.asList(KeyValuePair.of("test", "foobar")))
+                .isStatic()
+        ).isTrue();
+        assertThat(ConfigMap.of(SingleFieldConfig.class)
+                .with(Arrays.asList(KeyValuePair.of("test", "hello ${player}")))
+                .isStatic()
+        ).isFalse();
+        assertThat(ConfigMap.of(RootConfig.class)
+                .with(Arrays.asList(KeyValuePair.of("cfg.x", "1")))
+                .isStatic()
+        ).isTrue();
+    }
+
+    @Test
+    @DisplayName("should pass values without a placeholder to replacements that replace any value")
+    void shouldApplyCustomReplacements() throws ConfigurationException {
+
+        Scope scope = new DefaultScope();
+        ConfigMap configMap = ConfigMap.of(SingleFieldConfig.class)
+                .with(Arrays.asList(KeyValuePair.of("test", "hello %name%")));
+
+        assertThat(configMap.isStatic(scope)).isTrue();
+
+        scope.configuration().replacements().add((value, context) -> value.replace("%name%", "world"));
+
+        assertThat(configMap.isStatic(scope)).isFalse();
+        assertThat(configMap.resolve(scope, null, null).applyTo(new SingleFieldConfig()).getTest())
+                .isEqualTo("hello world");
+    }
+
     @Data
     public static class SingleFieldConfig {
 
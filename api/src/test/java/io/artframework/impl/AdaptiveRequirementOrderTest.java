@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.RequirementContext;
+import io.artframework.RequirementStatistics;
+import io.artframework.ResultStatus;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.targets.PlayerTarget;
+import io.artframework.util.TargetClassIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AdaptiveRequirementOrder")
+class AdaptiveRequirementOrderTest {
+
+    private RequirementContext<?> requirement(long nanos, ResultStatus status, boolean stateful) {
+
+        RequirementStatistics statistics = new RequirementStatistics();
+        statistics.record(nanos, status);
+
+        RequirementContext<?> requirement = mock(RequirementContext.class);
+        when(requirement.statistics()).thenReturn(Optional.of(statistics));
+        when(requirement.stateful()).thenReturn(stateful);
+        return requirement;
+    }
+
+    @Test
+    @DisplayName("should test cheap failing requirements first")
+    void shouldSortByCost() {
+
+        RequirementContext<?> slow = requirement(10_000, ResultStatus.FAILURE, false);
+        RequirementContext<?> passing = requirement(10, ResultStatus.SUCCESS, false);
+        RequirementContext<?> cheap = requirement(10, ResultStatus.FAILURE, false);
+
+        assertThat(AdaptiveRequirementOrder.sort(Arrays.asList(slow, passing, cheap)))
+                .containsExactly(cheap, slow, passing);
+    }
+
+    @Test
+    @DisplayName("should keep stateful requirements at their position")
+    void shouldKeepStatefulPosition() {
+
+        RequirementContext<?> slow = requirement(10_000, ResultStatus.FAILURE, false);
+        RequirementContext<?> counter = requirement(100_000, ResultStatus.SUCCESS, true);
+        RequirementContext<?> cheap = requirement(10, ResultStatus.FAILURE, false);
+
+        assertThat(AdaptiveRequirementOrder.sort(Arrays.asList(slow, counter, cheap)))
+                .containsExactly(cheap, counter, slow);
+    }
+
+    @Test
+    @DisplayName("should refresh the order after the reorder interval")
+    void shouldReorderPeriodically() {
+
+        RequirementContext<?> slow = requirement(10_000, ResultStatus.FAILURE, false);
+        RequirementContext<?> cheap = requirement(10, ResultStatus.FAILURE, false);
+        List<RequirementContext<?>> requirements = new ArrayList<>(Arrays.asList(slow, cheap));
+        AdaptiveRequirementOrder order = new AdaptiveRequirementOrder(new TargetClassIndex<>(() -> requirements));
+        PlayerTarget target = new PlayerTarget(new Player());
+
+        assertThat(order.get(target)).containsExactly(slow, cheap);
+
+        for (int i = 1; i < AdaptiveRequirementOrder.REORDER_INTERVAL; i++) {
+            order.get(target);
+        }
+
+        assertThat(order.get(target)).containsExactly(cheap, slow);
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.util.Arrays;
 
@@ -101,6 +102,42 @@ class DefaultArtContextTest implements ResultCreator {
         }
     }
 
+    @Nested
+    @DisplayName("execute(...)")
+    class execute {
+
+        @Test
+        @DisplayName("should only execute action contexts in the order they were loaded")
+        void shouldOnlyExecuteActionContextsInOrder() {
+
+            ActionContext<?> action1 = mock(ActionContext.class);
+            ActionContext<?> action2 = mock(ActionContext.class);
+            RequirementContext<?> requirement = mock(RequirementContext.class);
+            when(action1.execute(any(ExecutionContext.class))).thenReturn(FutureResult.of(success()));
+            when(action2.execute(any(ExecutionContext.class))).thenReturn(FutureResult.of(success()));
+
+            ArtContext context = context(action1, requirement, action2);
+
+            assertThat(context.execute(PlayerTarget.mock()))
+                    .extracting(Result::status)
+                    .isEqualTo(ResultStatus.SUCCESS);
+
+            InOrder inOrder = inOrder(action1, action2);
+            inOrder.verify(action1).execute(any(ExecutionContext.class));
+            inOrder.verify(action2).execute(any(ExecutionContext.class));
+            verifyNoInteractions(requirement);
+        }
+
+        @Test
+        @DisplayName("should return an empty result if the context has no actions")
+        void shouldReturnEmptyResultWithoutActions() {
+
+            assertThat(context().execute(PlayerTarget.mock()))
+                    .extracting(Result::status)
+                    .isEqualTo(ResultStatus.EMPTY);
+        }
+    }
+
     public static class TestRequirement implements Requirement<String> {
 
         @Override
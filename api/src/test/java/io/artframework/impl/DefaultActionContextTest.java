@@ -6,11 +6,15 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static io.artframework.Result.error;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
@@ -26,13 +30,23 @@ class DefaultActionContextTest {
         action = spy(new TestAction());
     }
 
-    @SneakyThrows
     private ActionContext<MyTarget> context(Action<MyTarget> action) {
 
-        return ActionContext.of(ART.globalScope(),
-                (ArtObjectMeta) ArtObjectMeta.of(ART.globalScope(), TestAction.class),
+        return context(ART.globalScope(), action, new ActionConfig());
+    }
+
+    private ActionContext<MyTarget> context(Scope scope, Action<MyTarget> action, ActionConfig config) {
+
+        return context(scope, TestAction.class, action, config);
+    }
+
+    @SneakyThrows
+    private ActionContext<MyTarget> context(Scope scope, Class actionClass, Action<MyTarget> action, ActionConfig config) {
+
+        return ActionContext.of(scope,
+                (ArtObjectMeta) ArtObjectMeta.of(scope, actionClass),
                 action,
-                new ActionConfig()
+                config
         );
     }
 
@@ -65,6 +79,155 @@ class DefaultActionContextTest {
         verify(action, never()).execute(any(), any());
     }
 
+    @Nested
+    @DisplayName("executeAndForget(...)")
+    class executeAndForget {
+
+        @Test
+        @DisplayName("should execute the action and its nested actions")
+        void shouldExecuteNestedActions() {
+
+            TestAction nestedAction = spy(new TestAction());
+            ActionContext<MyTarget> context = context(action);
+            context.addAction(context(nestedAction));
+
+            ExecutionContext<ActionContext<MyTarget>> executionContext = executionContext(context);
+            context.executeAndForget((Target<MyTarget>) executionContext.targets().iterator().next(), executionContext);
+
+            verify(action, times(1)).execute(any(), any());
+            verify(nestedAction, times(1)).execute(any(), any());
+        }
+
+        @Test
+        @DisplayName("should reuse the requirement results of the parent in nested actions")
+        void shouldReuseRequirementResultsInNestedActions() {
+
+            RequirementContext<MyTarget> requirement = requirement();
+            ActionContext<MyTarget> context = context(ART.globalScope(), MessageAction.class, new MessageAction(), new ActionConfig());
+            ActionContext<MyTarget> nested = context(spy(new TestAction()));
+            context.addRequirement(requirement);
+            nested.addRequirement(requirement);
+            context.addAction(nested);
+
+            ExecutionContext<ActionContext<MyTarget>> executionContext = executionContext(context);
+            context.executeAndForget((Target<MyTarget>) executionContext.targets().iterator().next(), executionContext);
+
+            verify(requirement, times(1)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test the requirements of nested actions again after an action with side effects")
+        void shouldTestRequirementsAgainAfterAction() {
+
+            RequirementContext<MyTarget> requirement = requirement();
+            ActionContext<MyTarget> context = context(action);
+            ActionContext<MyTarget> nested = context(spy(new TestAction()));
+            context.addRequirement(requirement);
+            nested.addRequirement(requirement);
+            context.addAction(nested);
+
+            ExecutionContext<ActionContext<MyTarget>> executionContext = executionContext(context);
+            context.executeAndForget((Target<MyTarget>) executionContext.targets().iterator().next(), executionContext);
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        private RequirementContext<MyTarget> requirement() {
+
+            RequirementContext<MyTarget> requirement = mock(RequirementContext.class);
+            when(requirement.isTargetType(any())).thenCallRealMethod();
+            when(requirement.targetClass()).thenReturn((Class) MyTarget.class);
+            when(requirement.test(any(), any())).thenAnswer(invocation -> Result.of(ResultStatus.SUCCESS).with(invocation.getArgument(0), requirement));
+            return requirement;
+        }
+
+        @Test
+        @DisplayName("should only execute once if execute once is set")
+        void shouldRespectExecuteOnce() {
+
+            ActionContext<MyTarget> context = context(ART.globalScope(), action, new ActionConfig().executeOnce(true));
+            ExecutionContext<ActionContext<MyTarget>> executionContext = executionContext(context);
+            Target<MyTarget> target = (Target<MyTarget>) executionContext.targets().iterator().next();
+
+            context.executeAndForget(target, executionContext);
+            context.executeAndForget(target, executionContext);
+
+            verify(action, times(1)).execute(any(), any());
+        }
+
+        @Test
+        @DisplayName("should pass the result of every action to the result sink")
+        void shouldCallResultSink() {
+
+            List<TargetResult<?, ?>> results = new ArrayList<>();
+            Scope scope = new DefaultScope(config -> config.resultSink(results::add));
+            ActionContext<MyTarget> context = context(scope, action, new ActionConfig());
+            ExecutionContext<ActionContext<MyTarget>> executionContext = executionContext(context);
+            Target<MyTarget> target = (Target<MyTarget>) executionContext.targets().iterator().next();
+
+            context.executeAndForget(target, executionContext);
+
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0))
+                    .extracting(TargetResult::target, TargetResult::context, Result::success)
+                    .contains(target, context, true);
+        }
+    }
+
+    @Nested
+    @DisplayName("action(...)")
+    class actionMethod {
+
+        @SneakyThrows
+        private <TAction extends Action<MyTarget>> DefaultActionContext<MyTarget> context(Class<TAction> actionClass) {
+
+            Scope scope = ART.globalScope();
+            ArtObjectMeta meta = ArtObjectMeta.of(scope, actionClass);
+            return new DefaultActionContext<>(scope, config, ActionFactory.of(scope, meta), ConfigMap.of(actionClass));
+        }
+
+        @Test
+        @DisplayName("should reuse shareable actions with a static config")
+        void shouldReuseShareableAction() {
+
+            DefaultActionContext<MyTarget> context = context(ShareableAction.class);
+
+            assertThat(context.action(new MyTargetWrapper(new MyTarget()), null))
+                    .isInstanceOf(ShareableAction.class)
+                    .isSameAs(context.action(new MyTargetWrapper(new MyTarget()), null));
+        }
+
+        @Test
+        @DisplayName("should create a new instance for every execution of other actions")
+        void shouldCreateNewAction() {
+
+            DefaultActionContext<MyTarget> context = context(TestAction.class);
+
+            assertThat(context.action(new MyTargetWrapper(new MyTarget()), null))
+                    .isNotSameAs(context.action(new MyTargetWrapper(new MyTarget()), null));
+        }
+    }
+
+    @io.artframework.annotations.ART(value = "shareable", shareable = true)
+    public static class ShareableAction implements Action<MyTarget> {
+
+        @Override
+        public Result execute(@NonNull Target<MyTarget> target, @NonNull ExecutionContext<ActionContext<MyTarget>> context) {
+
+            return success();
+        }
+    }
+
+    @io.artframework.annotations.ART(value = "message", invalidatesRequirements = false)
+    public static class MessageAction implements Action<MyTarget> {
+
+        @Override
+        public Result execute(@NonNull Target<MyTarget> target, @NonNull ExecutionContext<ActionContext<MyTarget>> context) {
+
+            return success();
+        }
+    }
+
     @io.artframework.annotations.ART("test")
     public static class TestAction implements Action<MyTarget> {
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.targets.PlayerTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ALL")
+class DefaultExecutionContextTest {
+
+    private Scope scope;
+    private PlayerTarget target;
+
+    @BeforeEach
+    void setUp() {
+        scope = Scope.defaultScope();
+        target = new PlayerTarget(new Player());
+    }
+
+    @Nested
+    @DisplayName("history()")
+    class history {
+
+        @Test
+        @DisplayName("should contain the parents from newest to oldest")
+        void shouldContainParentsFromNewestToOldest() {
+
+            ActionContext<?> action1 = mock(ActionContext.class);
+            ActionContext<?> action2 = mock(ActionContext.class);
+            ActionContext<?> action3 = mock(ActionContext.class);
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target)
+                    .next(action1)
+                    .next(action2)
+                    .next(action3);
+
+            assertThat(context.current()).isSameAs(action3);
+            assertThat(context.parent()).get().isSameAs(action2);
+            assertThat(context.history()).containsExactly(action2, action1);
+        }
+
+        @Test
+        @DisplayName("should not contain siblings that finished executing")
+        void shouldNotContainSiblings() {
+
+            ActionContext<?> parent = mock(ActionContext.class);
+            ActionContext<?> child1 = mock(ActionContext.class);
+            ActionContext<?> child2 = mock(ActionContext.class);
+
+            ExecutionContext<?> parentContext = ExecutionContext.of(scope, null, target).next(parent);
+            parentContext.next(child1);
+            ExecutionContext<?> context = parentContext.next(child2);
+
+            assertThat(context.history()).containsExactly(parent);
+        }
+
+        @Test
+        @DisplayName("should be empty for the root context")
+        void shouldBeEmptyForRootContext() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+
+            assertThat(context.parent()).isEmpty();
+            assertThat(context.history()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("targets()")
+    class targets {
+
+        @Test
+        @DisplayName("should share added targets across the execution chain")
+        void shouldShareTargetsAcrossChain() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+            ExecutionContext<?> next = context.next(mock(ActionContext.class));
+            PlayerTarget otherTarget = new PlayerTarget(new Player());
+
+            next.addTarget(otherTarget);
+
+            assertThat(context.targets()).containsExactly(target, otherTarget);
+        }
+
+        @Test
+        @DisplayName("should not add the same target twice")
+        void shouldNotAddDuplicateTargets() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target, target);
+
+            assertThat(context.addTarget(target).targets()).containsExactly(target);
+        }
+
+        @Test
+        @DisplayName("should return a read-only view")
+        void shouldReturnReadOnlyView() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> context.targets().clear());
+        }
+    }
+
+    @Nested
+    @DisplayName("test(RequirementContext, Target)")
+    class test {
+
+        private RequirementContext<Player> requirement;
+
+        @BeforeEach
+        void setUp() {
+            requirement = mock(RequirementContext.class);
+            when(requirement.test(any(), any())).thenReturn(Result.of(ResultStatus.SUCCESS).with(target, requirement));
+        }
+
+        @Test
+        @DisplayName("should test a requirement only once per target in the execution chain")
+        void shouldMemoizeResultAcrossChain() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+            ExecutionContext<?> next = context.next(mock(ActionContext.class));
+
+            assertThat(context.test(requirement, target).success()).isTrue();
+            assertThat(next.test(requirement, target).success()).isTrue();
+            assertThat(next.test(requirement, new PlayerTarget(new Player())).success()).isTrue();
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should always test stateful requirements")
+        void shouldNotMemoizeStatefulRequirements() {
+
+            when(requirement.stateful()).thenReturn(true);
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+
+            context.test(requirement, target);
+            context.test(requirement, target);
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should not reuse the requirement results in a detached execution")
+        void shouldNotMemoizeAcrossDetachedExecution() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+
+            context.test(requirement, target);
+            context.detach().test(requirement, target);
+            context.test(requirement, target);
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test the requirement again after the results were invalidated")
+        void shouldTestAgainAfterInvalidation() {
+
+            ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+
+            context.test(requirement, target);
+            context.next(mock(ActionContext.class)).invalidateRequirements();
+            context.test(requirement, target);
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("should share data and variables across the execution chain")
+    void shouldShareDataAndVariables() {
+
+        ExecutionContext<?> context = ExecutionContext.of(scope, null, target);
+        ExecutionContext<?> next = context.next(mock(ActionContext.class));
+
+        next.data("foo", "bar");
+        next.var("var", 42);
+
+        assertThat(context.data("foo", String.class)).get().isEqualTo("bar");
+        assertThat(context.var("var", Integer.class)).get().isEqualTo(42);
+    }
+}
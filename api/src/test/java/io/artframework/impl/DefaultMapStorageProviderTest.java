@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.Configuration;
+import io.artframework.Scheduler;
+import io.artframework.Scope;
+import io.artframework.StorageKey;
+import io.artframework.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DefaultMapStorageProviderTest {
+
+    private AtomicLong time;
+    private DefaultMapStorageProvider storage;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        storage = new DefaultMapStorageProvider(mock(Scope.class), time::get);
+    }
+
+    @Test
+    @DisplayName("should read counters and timestamps as stored values")
+    void shouldShareNumbers() {
+
+        storage.increment(StorageKey.of("count"), 2);
+        storage.timestamp(StorageKey.of("time"), 1000L);
+
+        assertThat(storage.get("count", Integer.class)).contains(2);
+        assertThat(storage.get("time", Long.class)).contains(1000L);
+        assertThat(storage.get("time", Integer.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should read stored numbers as counters and timestamps")
+    void shouldStoreNumbers() {
+
+        storage.set("count", 2);
+        storage.set("time", 1000L);
+
+        assertThat(storage.count(StorageKey.of("count"))).isEqualTo(2);
+        assertThat(storage.increment(StorageKey.of("count"), 1)).isEqualTo(3);
+        assertThat(storage.compareAndSetTimestamp(StorageKey.of("time"), 1000L, 2000L)).isTrue();
+        assertThat(storage.timestamp(StorageKey.of("time"))).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("should replace numbers with other values")
+    void shouldReplaceNumbers() {
+
+        storage.set("foo", 2);
+
+        assertThat(storage.set("foo", "bar")).isEmpty();
+        assertThat(storage.get("foo", String.class)).contains("bar");
+        assertThat(storage.count(StorageKey.of("foo"))).isZero();
+        assertThat(storage.set("foo", 3)).isEmpty();
+        assertThat(storage.get("foo", Object.class)).contains(3);
+    }
+
+    @Test
+    @DisplayName("should compute a new value from the stored value")
+    void shouldCompute() {
+
+        StorageKey key = StorageKey.of("foo");
+
+        assertThat(storage.compute(key, String.class, value -> value == null ? "a" : value + "b")).contains("a");
+        assertThat(storage.compute(key, String.class, value -> value + "b")).contains("ab");
+        assertThat(storage.compute(key, String.class, value -> null)).isEmpty();
+        assertThat(storage.get(key, String.class)).contains("ab");
+    }
+
+    @Test
+    @DisplayName("should not lose updates of concurrent writers")
+    void shouldUpdateConcurrently() throws InterruptedException {
+
+        StorageKey counter = StorageKey.of("counter");
+        StorageKey computed = StorageKey.of("computed");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                storage.increment(counter, 1);
+                storage.compute(computed, Long.class, value -> value == null ? 1L : value + 1);
+            });
+        }
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(storage.count(counter)).isEqualTo(1000);
+        assertThat(storage.get(computed, Long.class)).contains(1000L);
+    }
+
+    @Test
+    @DisplayName("should expire values after their time to live")
+    void shouldExpireValues() {
+
+        storage.set(StorageKey.of("foo"), "bar", 1000);
+        storage.timestamp(StorageKey.of("time"), 500L, 1000);
+        storage.set(StorageKey.of("forever"), "bar");
+
+        time.set(999);
+        assertThat(storage.get("foo", String.class)).contains("bar");
+        assertThat(storage.timestamp(StorageKey.of("time"))).isEqualTo(500L);
+
+        time.set(1000);
+        assertThat(storage.get("foo", String.class)).isEmpty();
+        assertThat(storage.timestamp(StorageKey.of("time"))).isZero();
+        assertThat(storage.get("forever", String.class)).contains("bar");
+        assertThat(storage.set("foo", "baz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should schedule the sweeper once the first expiring value is stored")
+    void shouldScheduleSweeper() {
+
+        Scope scope = mock(Scope.class);
+        Scheduler scheduler = mock(Scheduler.class);
+        Task task = mock(Task.class);
+        when(scope.configuration()).thenReturn(Configuration.builder().scheduler(scheduler).build());
+        when(scheduler.runTaskTimerAsynchronously(any(), anyLong(), anyLong())).thenReturn(task);
+        storage = new DefaultMapStorageProvider(scope, time::get);
+
+        storage.set(StorageKey.of("forever"), "bar");
+        verify(scheduler, never()).runTaskTimerAsynchronously(any(), anyLong(), anyLong());
+
+        storage.set(StorageKey.of("foo"), "bar", 1000);
+        storage.timestamp(StorageKey.of("time"), 500L, 1000);
+        verify(scheduler, times(1)).runTaskTimerAsynchronously(any(), anyLong(), anyLong());
+
+        storage.close();
+        verify(task).cancel();
+    }
+}
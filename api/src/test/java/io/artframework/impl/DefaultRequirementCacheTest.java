@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import io.artframework.conf.RequirementConfig;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.targets.PlayerTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ALL")
+class DefaultRequirementCacheTest {
+
+    private AtomicLong time;
+    private DefaultRequirementCache cache;
+    private RequirementContext<Player> requirement;
+    private PlayerTarget target;
+    private Result result;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        cache = new DefaultRequirementCache(null, time::get);
+        requirement = mock(RequirementContext.class);
+        target = new PlayerTarget(new Player());
+        result = Result.of(ResultStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("should return the cached result until it expires")
+    void shouldExpireResult() {
+
+        cache.put(requirement, target, result, 1000);
+
+        time.set(999);
+        assertThat(cache.get(requirement, target)).get().isSameAs(result);
+
+        time.set(1000);
+        assertThat(cache.get(requirement, target)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not cache results without a duration")
+    void shouldNotCacheWithoutDuration() {
+
+        cache.put(requirement, target, result, 0);
+
+        assertThat(cache.get(requirement, target)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should remove all results of an invalidated target")
+    void shouldInvalidateTarget() {
+
+        RequirementContext<Player> otherRequirement = mock(RequirementContext.class);
+        PlayerTarget otherTarget = new PlayerTarget(new Player());
+        cache.put(requirement, target, result, 1000);
+        cache.put(otherRequirement, target, result, 1000);
+        cache.put(requirement, otherTarget, result, 1000);
+
+        cache.invalidate(target);
+
+        assertThat(cache.get(requirement, target)).isEmpty();
+        assertThat(cache.get(otherRequirement, target)).isEmpty();
+        assertThat(cache.get(requirement, otherTarget)).isPresent();
+    }
+
+    @Test
+    @DisplayName("should remove the results of an invalidated requirement for all targets")
+    void shouldInvalidateRequirement() {
+
+        RequirementContext<Player> otherRequirement = mock(RequirementContext.class);
+        PlayerTarget otherTarget = new PlayerTarget(new Player());
+        cache.put(requirement, target, result, 1000);
+        cache.put(requirement, otherTarget, result, 1000);
+        cache.put(otherRequirement, target, result, 1000);
+
+        cache.invalidate(requirement);
+
+        assertThat(cache.get(requirement, target)).isEmpty();
+        assertThat(cache.get(requirement, otherTarget)).isEmpty();
+        assertThat(cache.get(otherRequirement, target)).isPresent();
+    }
+
+    @Test
+    @DisplayName("should cache the results of requirements in the same scope separately")
+    void shouldNotMixEqualRequirements() {
+
+        RequirementContext<Player> first = new DefaultRequirementContext<>(ART.globalScope(), mock(ArtObjectMeta.class), mock(Requirement.class), new RequirementConfig());
+        RequirementContext<Player> second = new DefaultRequirementContext<>(ART.globalScope(), mock(ArtObjectMeta.class), mock(Requirement.class), new RequirementConfig());
+        Result failure = Result.of(ResultStatus.FAILURE);
+
+        cache.put(first, target, result, 1000);
+        cache.put(second, target, failure, 1000);
+
+        assertThat(cache.get(first, target)).get().isSameAs(result);
+        assertThat(cache.get(second, target)).get().isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("should remove expired results and empty targets when sweeping")
+    void shouldSweepExpiredResults() {
+
+        RequirementContext<Player> otherRequirement = mock(RequirementContext.class);
+        PlayerTarget otherTarget = new PlayerTarget(new Player());
+        cache.put(requirement, target, result, 1000);
+        cache.put(requirement, otherTarget, result, 1000);
+        cache.put(otherRequirement, otherTarget, result, 2000);
+
+        time.set(1000);
+        cache.sweep();
+
+        assertThat(cache.results).doesNotContainKey(target.uniqueId());
+        assertThat(cache.results.get(otherTarget.uniqueId())).containsOnlyKeys(otherRequirement);
+    }
+
+    @Test
+    @DisplayName("should schedule the sweep with the scheduler of the scope")
+    void shouldScheduleSweep() {
+
+        Scheduler scheduler = mock(Scheduler.class);
+        cache = new DefaultRequirementCache(new DefaultScope(config -> config.scheduler(scheduler)), time::get);
+
+        cache.put(requirement, target, result, 1000);
+        cache.put(requirement, target, result, 1000);
+
+        verify(scheduler, times(1)).runTaskTimerAsynchronously(any(), anyLong(), anyLong());
+    }
+}
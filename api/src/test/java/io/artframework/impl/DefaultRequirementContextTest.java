@@ -12,7 +12,8 @@ import org.junit.jupiter.api.Test;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
 class DefaultRequirementContextTest {
@@ -70,6 +71,104 @@ class DefaultRequirementContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("requirement(...)")
+    class requirementMethod {
+
+        @Test
+        @DisplayName("should resolve static configs once when the context is created")
+        void shouldResolveStaticConfigOnce() throws ArtMetaDataException {
+
+            RequirementFactory<MyTarget> factory = mock(RequirementFactory.class);
+            when(factory.meta()).thenReturn((ArtObjectMeta) ArtObjectMeta.of("test", TestRequirement.class, requirement));
+            when(factory.create(any())).thenReturn(requirement);
+            ConfigMap configMap = mock(ConfigMap.class);
+            when(configMap.isStatic(any())).thenReturn(true);
+            when(configMap.resolve(any(), any(), any())).thenReturn(configMap);
+
+            DefaultRequirementContext<MyTarget> context = new DefaultRequirementContext<>(ART.globalScope(), config, factory, configMap);
+            context.requirement(target, executionContext());
+            context.requirement(target, executionContext());
+
+            verify(configMap, times(1)).resolve(any(), any(), any());
+            verify(factory, times(2)).create(configMap);
+        }
+
+        @Test
+        @DisplayName("should resolve target dependent configs for every test")
+        void shouldResolveDynamicConfigEveryTime() throws ArtMetaDataException {
+
+            RequirementFactory<MyTarget> factory = mock(RequirementFactory.class);
+            when(factory.meta()).thenReturn((ArtObjectMeta) ArtObjectMeta.of("test", TestRequirement.class, requirement));
+            when(factory.create(any())).thenReturn(requirement);
+            ConfigMap configMap = mock(ConfigMap.class);
+            when(configMap.resolve(any(), any(), any())).thenReturn(configMap);
+
+            DefaultRequirementContext<MyTarget> context = new DefaultRequirementContext<>(ART.globalScope(), config, factory, configMap);
+            context.requirement(target, executionContext());
+            context.requirement(target, executionContext());
+
+            verify(configMap, times(2)).resolve(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("cache")
+    class cache {
+
+        private DefaultRequirementContext<MyTarget> cachedContext;
+
+        @BeforeEach
+        void setUp() throws ArtMetaDataException, ConfigurationException {
+
+            config.cache("10s");
+            cachedContext = new DefaultRequirementContext<>(
+                    ART.globalScope(),
+                    config,
+                    RequirementFactory.of(ART.globalScope(), (ArtObjectMeta) ArtObjectMeta.of(ART.globalScope(), TestRequirement.class, () -> requirement)),
+                    ConfigMap.of(TestRequirement.class)
+            );
+        }
+
+        private ExecutionContext<RequirementContext<MyTarget>> cachedExecutionContext() {
+
+            return ExecutionContext.of(ART.globalScope(), null, target).next(cachedContext);
+        }
+
+        @Test
+        @DisplayName("should only test the requirement once while the result is cached")
+        void shouldCacheResult() {
+
+            assertThat(cachedContext.test(target, cachedExecutionContext()).success()).isTrue();
+            assertThat(cachedContext.test(target, cachedExecutionContext()).success()).isTrue();
+
+            verify(requirement, times(1)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test the requirement again after the target was invalidated")
+        void shouldTestAgainAfterInvalidation() {
+
+            cachedContext.test(target, cachedExecutionContext());
+            ART.globalScope().configuration().requirementCache().get().invalidate(target);
+            cachedContext.test(target, cachedExecutionContext());
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should not cache the result of stateful requirements")
+        void shouldNotCacheStatefulRequirements() {
+
+            config.checkOnce(false).count(5);
+
+            cachedContext.test(target, cachedExecutionContext());
+            cachedContext.test(target, cachedExecutionContext());
+
+            verify(requirement, times(2)).test(any(), any());
+        }
+    }
+
     @io.artframework.annotations.ART("test")
     public static class TestRequirement implements Requirement<MyTarget> {
         @Override
@@ -63,6 +63,60 @@ class DefaultTriggerContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("trigger(Target, ExecutionContext)")
+    class triggerInstance {
+
+        @Test
+        @DisplayName("should reuse shareable triggers for static configs")
+        void shouldReuseStaticTrigger() throws ArtMetaDataException {
+
+            ArtObjectMeta meta = spy(ArtObjectMeta.of("test", TestTrigger.class, new TestTrigger()));
+            doReturn(true).when(meta).shareable();
+            TriggerFactory factory = mock(TriggerFactory.class);
+            when(factory.meta()).thenReturn(meta);
+            when(factory.create(any())).thenAnswer(invocation -> new TestTrigger());
+            ConfigMap configMap = mock(ConfigMap.class);
+            when(configMap.isStatic(any())).thenReturn(true);
+            when(configMap.resolve(any(), any(), any())).thenReturn(configMap);
+            DefaultTriggerContext context = new DefaultTriggerContext(ART.globalScope(), config, factory, configMap);
+
+            assertThat(context.trigger(target, null)).isSameAs(context.trigger(new MyTargetWrapper(new MyTarget()), null));
+            verify(factory, times(1)).create(any());
+        }
+
+        @Test
+        @DisplayName("should create a new trigger for every execution of triggers that are not shareable")
+        void shouldCreateNewTriggerIfNotShareable() throws ArtMetaDataException {
+
+            TriggerFactory factory = mock(TriggerFactory.class);
+            when(factory.meta()).thenReturn((ArtObjectMeta) ArtObjectMeta.of("test", TestTrigger.class, new TestTrigger()));
+            when(factory.create(any())).thenAnswer(invocation -> new TestTrigger());
+            ConfigMap configMap = mock(ConfigMap.class);
+            when(configMap.isStatic(any())).thenReturn(true);
+            when(configMap.resolve(any(), any(), any())).thenReturn(configMap);
+            DefaultTriggerContext context = new DefaultTriggerContext(ART.globalScope(), config, factory, configMap);
+
+            assertThat(context.trigger(target, null)).isNotSameAs(context.trigger(target, null));
+            verify(factory, times(2)).create(any());
+        }
+
+        @Test
+        @DisplayName("should create a new trigger for target dependent configs")
+        void shouldCreateNewTriggerForDynamicConfigs() throws ArtMetaDataException {
+
+            TriggerFactory factory = mock(TriggerFactory.class);
+            when(factory.meta()).thenReturn((ArtObjectMeta) ArtObjectMeta.of("test", TestTrigger.class, new TestTrigger()));
+            when(factory.create(any())).thenAnswer(invocation -> new TestTrigger());
+            ConfigMap configMap = mock(ConfigMap.class);
+            when(configMap.isStatic(any())).thenReturn(false);
+            DefaultTriggerContext context = new DefaultTriggerContext(ART.globalScope(), config, factory, configMap);
+
+            assertThat(context.trigger(target, null)).isNotSameAs(context.trigger(target, null));
+            verify(factory, times(2)).create(any());
+        }
+    }
+
     @Nested
     @DisplayName("trigger(...)")
     class trigger {
@@ -81,6 +135,20 @@ class DefaultTriggerContextTest {
             verify(action, never()).execute(any(), any());
         }
 
+        @Test
+        @DisplayName("should test every requirement once per target")
+        void shouldTestRequirementsOncePerTarget() {
+
+            RequirementContext requirement = mock(RequirementContext.class);
+            when(requirement.test(any(), any())).thenAnswer(invocation -> Result.of(ResultStatus.SUCCESS).with(invocation.getArgument(0), requirement));
+            context.addRequirement(requirement);
+
+            context.trigger(target, new MyTargetWrapper(new MyTarget()), new MyTargetWrapper(new MyTarget()));
+
+            verify(requirement, times(3)).test(any(), any());
+            verify(action, times(3)).execute(any(), any());
+        }
+
         @Test
         @DisplayName("should execute if nothing else is specified")
         void shouldExecuteIfNothingElseIsSpecified() {
@@ -116,6 +184,23 @@ class DefaultTriggerContextTest {
             verify(action, times(1)).execute(any(), any());
         }
 
+        @Test
+        @DisplayName("should not start the cooldown before the counter is met")
+        void shouldNotStartCooldownBeforeCounterIsMet() {
+
+            config.cooldown("1h");
+            config.count(2);
+
+            context.trigger(target);
+            context.trigger(target);
+            context.trigger(target);
+
+            verify(action, times(1)).execute(any(), any());
+            assertThat(context.store(target, Constants.Storage.COUNT, Integer.class))
+                    .isPresent().get()
+                    .isEqualTo(2);
+        }
+
         @Test
         @DisplayName("should execute for other targets")
         void shouldExecuteForOtherTargets() {
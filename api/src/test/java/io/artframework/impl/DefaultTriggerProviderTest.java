@@ -16,8 +16,7 @@
 
 package io.artframework.impl;
 
-import io.artframework.Scope;
-import io.artframework.Trigger;
+import io.artframework.*;
 import io.artframework.annotations.ART;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +24,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class DefaultTriggerProviderTest {
 
@@ -50,6 +50,46 @@ class DefaultTriggerProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("hasListeners(...)")
+    class hasListeners {
+
+        @Test
+        @DisplayName("should only have listeners while a context is registered")
+        void shouldTrackRegisteredContexts() {
+
+            TriggerContext context = mock(TriggerContext.class);
+            ArtObjectMeta meta = mock(ArtObjectMeta.class);
+            when(meta.artObjectClass()).thenReturn(TestTrigger.class);
+            when(context.meta()).thenReturn(meta);
+
+            assertThat(provider.hasListeners(TestTrigger.class)).isFalse();
+
+            provider.register(context);
+            provider.register(context);
+            assertThat(provider.hasListeners(TestTrigger.class)).isTrue();
+
+            provider.unregister(context);
+            assertThat(provider.hasListeners(TestTrigger.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should trigger every registered context once")
+        void shouldDispatchToRegisteredContexts() {
+
+            TriggerContext context = mock(TriggerContext.class);
+            ArtObjectMeta meta = mock(ArtObjectMeta.class);
+            when(meta.artObjectClass()).thenReturn(TestTrigger.class);
+            when(context.meta()).thenReturn(meta);
+            provider.register(context);
+            provider.register(context);
+
+            provider.execute(TriggerExecution.of(Scope.defaultScope(), TestTrigger.class));
+
+            verify(context, times(1)).trigger(any(Target[].class));
+        }
+    }
+
     @ART("foo")
     public static class TestTrigger implements Trigger {
     }
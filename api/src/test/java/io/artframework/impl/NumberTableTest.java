@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.StorageKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NumberTableTest {
+
+    private AtomicLong time;
+    private NumberTable table;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        table = new NumberTable(2, time::get);
+    }
+
+    @Test
+    @DisplayName("should box values with their stored type")
+    void shouldKeepType() {
+
+        table.put(StorageKey.of("int"), 1, NumberTable.INT, 0);
+        table.put(StorageKey.of("long"), 2, NumberTable.LONG, 0);
+
+        assertThat(table.get(StorageKey.of("int"))).isEqualTo(1);
+        assertThat(table.get(StorageKey.of("long"))).isEqualTo(2L);
+        assertThat(table.get(StorageKey.of("missing"))).isNull();
+        assertThat(table.get(StorageKey.of("missing"), -1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("should increment missing values from zero")
+    void shouldIncrement() {
+
+        StorageKey key = StorageKey.of("count");
+
+        assertThat(table.add(key, 1, NumberTable.INT)).isEqualTo(1);
+        assertThat(table.add(key, 5, NumberTable.INT)).isEqualTo(6);
+        assertThat(table.get(key)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should only set the value if it matches the expected value")
+    void shouldCompareAndSet() {
+
+        StorageKey key = StorageKey.of("time");
+
+        assertThat(table.compareAndSet(key, 1, 10, NumberTable.LONG, 0)).isFalse();
+        assertThat(table.contains(key)).isFalse();
+        assertThat(table.compareAndSet(key, 0, 10, NumberTable.LONG, 0)).isTrue();
+        assertThat(table.compareAndSet(key, 0, 20, NumberTable.LONG, 0)).isFalse();
+        assertThat(table.compareAndSet(key, 10, 20, NumberTable.LONG, 0)).isTrue();
+        assertThat(table.get(key, 0)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("should find all remaining values after growing and removing values")
+    void shouldGrowAndRemove() {
+
+        for (int i = 0; i < 1000; i++) {
+            table.put(StorageKey.of("key" + i), i, NumberTable.LONG, 0);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertThat(table.remove(StorageKey.of("key" + i))).isEqualTo((long) i);
+        }
+
+        assertThat(table.size()).isEqualTo(500);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(table.get(StorageKey.of("key" + i))).isEqualTo(i % 2 == 0 ? null : (long) i);
+        }
+    }
+
+    @Test
+    @DisplayName("should treat expired values as missing")
+    void shouldExpireValues() {
+
+        StorageKey key = StorageKey.of("time");
+        table.put(key, 10, NumberTable.LONG, 1000);
+
+        time.set(999);
+        assertThat(table.get(key)).isEqualTo(10L);
+
+        time.set(1000);
+        assertThat(table.get(key, 0)).isZero();
+        assertThat(table.size()).isZero();
+        assertThat(table.compareAndSet(key, 0, 20, NumberTable.LONG, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should remove all expired values when sweeping")
+    void shouldSweep() {
+
+        for (int i = 0; i < 100; i++) {
+            table.put(StorageKey.of("key" + i), i, NumberTable.LONG, i % 2 == 0 ? 1000 : 0);
+        }
+
+        time.set(1000);
+
+        assertThat(table.sweep()).isEqualTo(50);
+        assertThat(table.size()).isEqualTo(50);
+        for (int i = 1; i < 100; i += 2) {
+            assertThat(table.get(StorageKey.of("key" + i))).isEqualTo((long) i);
+        }
+    }
+}
@@ -96,4 +96,25 @@ class VariableReplacementTest {
         assertThat(replacement.replace("${int} ${double} ${float} ${long} ${boolean}", context))
                 .isEqualTo("1 2.0 3.0 4 true");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should provide the value of a single placeholder")
+    void shouldReplacePlaceholder() {
+
+        variables.put("player", Variable.of("player", "foobar"));
+        variables.put("int", Variable.of("int", 1));
+
+        assertThat(replacement.replacePlaceholder("player", context)).isEqualTo("foobar");
+        assertThat(replacement.replacePlaceholder("int", context)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("should not provide a value for unknown or non string placeholders")
+    void shouldNotReplaceUnknownPlaceholders() {
+
+        variables.put("player", Variable.of("player", new Player()));
+
+        assertThat(replacement.replacePlaceholder("player", context)).isNull();
+        assertThat(replacement.replacePlaceholder("foo", context)).isNull();
+    }
+}
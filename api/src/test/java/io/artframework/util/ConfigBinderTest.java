@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("ConfigBinder")
+class ConfigBinderTest {
+
+    @Test
+    @DisplayName("should set private and inherited fields")
+    void shouldSetFields() throws ReflectiveOperationException {
+
+        TestConfig config = new TestConfig();
+
+        ConfigBinder.of(TestConfig.class).set(config, "name", "foo");
+        ConfigBinder.of(TestConfig.class).set(config, "amount", 5);
+        ConfigBinder.of(TestConfig.class).set(config, "id", "bar");
+
+        assertThat(config.name).isEqualTo("foo");
+        assertThat(config.amount).isEqualTo(5);
+        assertThat(((BaseConfig) config).id).isEqualTo("bar");
+    }
+
+    @Test
+    @DisplayName("should set final fields")
+    void shouldSetFinalFields() throws ReflectiveOperationException {
+
+        TestConfig config = new TestConfig();
+
+        ConfigBinder.of(TestConfig.class).set(config, "count", 5);
+
+        assertThat(config.count).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should create missing nested configs")
+    void shouldCreateNestedConfig() throws ReflectiveOperationException {
+
+        TestConfig config = new TestConfig();
+
+        Object nested = ConfigBinder.of(TestConfig.class).nested(config, "nested");
+
+        assertThat(nested).isInstanceOf(NestedConfig.class).isSameAs(config.nested);
+        assertThat(ConfigBinder.of(TestConfig.class).nested(config, "nested")).isSameAs(nested);
+    }
+
+    @Test
+    @DisplayName("should throw if the field does not exist")
+    void shouldThrowForUnknownFields() {
+
+        assertThatExceptionOfType(NoSuchFieldException.class)
+                .isThrownBy(() -> ConfigBinder.of(TestConfig.class).set(new TestConfig(), "foobar", "foo"));
+    }
+
+    static class BaseConfig {
+        private String id;
+    }
+
+    static class TestConfig extends BaseConfig {
+        private String name;
+        private int amount;
+        private final Integer count = 0;
+        private NestedConfig nested;
+    }
+
+    public static class NestedConfig {
+        private String value;
+    }
+}
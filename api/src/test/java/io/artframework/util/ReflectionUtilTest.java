@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -160,6 +161,39 @@ class ReflectionUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("getConstructorSupplier(...)")
+    class getConstructorSupplier {
+
+        @Test
+        @DisplayName("should create a new instance for every call")
+        void shouldCreateNewInstances() throws ReflectiveOperationException {
+
+            Supplier<PrivateConstructor> supplier = ReflectionUtil.getConstructorSupplier(PrivateConstructor.class);
+
+            assertThat(supplier.get())
+                    .isInstanceOf(PrivateConstructor.class)
+                    .isNotSameAs(supplier.get());
+        }
+
+        @Test
+        @DisplayName("should call the constructor with the given parameter")
+        void shouldPassParameter() throws ReflectiveOperationException {
+
+            Function<String, ParameterConstructor> function = ReflectionUtil.getConstructorFunction(ParameterConstructor.class, String.class);
+
+            assertThat(function.apply("foo").value).isEqualTo("foo");
+        }
+
+        @Test
+        @DisplayName("should throw if the class has no parameterless constructor")
+        void shouldThrowWithoutConstructor() {
+
+            Assertions.assertThatExceptionOfType(NoSuchMethodException.class)
+                    .isThrownBy(() -> ReflectionUtil.getConstructorSupplier(ParameterConstructor.class));
+        }
+    }
+
     @Nested
     @DisplayName("toObject(...)")
     class ToObject {
@@ -194,4 +228,18 @@ class ReflectionUtilTest {
     class TypeArgumentClass extends TypeArgumentTest<String, Integer> implements TypeInterface<Double> {
     }
 
-}
\ No newline at end of file
+    static class PrivateConstructor {
+
+        private PrivateConstructor() {
+        }
+    }
+
+    static class ParameterConstructor {
+
+        private final String value;
+
+        ParameterConstructor(String value) {
+            this.value = value;
+        }
+    }
+}
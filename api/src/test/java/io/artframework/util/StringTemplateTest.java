@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StringTemplate")
+class StringTemplateTest {
+
+    @Test
+    @DisplayName("should parse the placeholders of the string")
+    void shouldParsePlaceholders() {
+
+        StringTemplate template = StringTemplate.compile("${greeting} ${player}, you have ${coins} coins");
+
+        assertThat(template.constant()).isFalse();
+        assertThat(template.placeholders()).containsExactly("greeting", "player", "coins");
+    }
+
+    @Test
+    @DisplayName("should render the values of all placeholders in one pass")
+    void shouldRenderPlaceholders() {
+
+        Map<String, String> values = Map.of("greeting", "Hi", "player", "Silthus", "coins", "42");
+
+        assertThat(StringTemplate.compile("${greeting} ${player}, you have ${coins} coins").render(values::get))
+                .isEqualTo("Hi Silthus, you have 42 coins");
+    }
+
+    @Test
+    @DisplayName("should keep placeholders without a value")
+    void shouldKeepUnresolvedPlaceholders() {
+
+        assertThat(StringTemplate.compile("${player} has ${unknown}").render(key -> key.equals("player") ? "Silthus" : null))
+                .isEqualTo("Silthus has ${unknown}");
+    }
+
+    @Test
+    @DisplayName("should be constant if the string has no complete placeholder")
+    void shouldBeConstantWithoutPlaceholders() {
+
+        StringTemplate template = StringTemplate.compile("costs 5$ or ${unclosed");
+
+        assertThat(template.constant()).isTrue();
+        assertThat(template.render(key -> "foo")).isEqualTo("costs 5$ or ${unclosed");
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import io.artframework.TargetHolder;
+import io.artframework.integration.data.Entity;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.targets.PlayerTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TargetClassIndex")
+class TargetClassIndexTest {
+
+    private List<TargetHolder> holders;
+    private TargetClassIndex<TargetHolder> index;
+
+    @BeforeEach
+    void setUp() {
+        holders = new ArrayList<>();
+        index = new TargetClassIndex<>(() -> holders);
+    }
+
+    @Test
+    @DisplayName("should only return holders matching the target class in order")
+    void shouldReturnMatchingHoldersInOrder() {
+
+        TargetHolder player = () -> Player.class;
+        TargetHolder object = () -> Object.class;
+        TargetHolder string = () -> String.class;
+        holders.add(player);
+        holders.add(string);
+        holders.add(object);
+
+        assertThat(index.get(new PlayerTarget(new Player())))
+                .containsExactly(player, object);
+        assertThat(index.get(String.class))
+                .containsExactly(string, object);
+    }
+
+    @Test
+    @DisplayName("should match holders targeting a super class of the target")
+    void shouldMatchSuperClassHolders() {
+
+        TargetHolder entity = () -> Entity.class;
+        holders.add(entity);
+
+        assertThat(index.get(Player.class))
+                .containsExactly(entity);
+    }
+
+    @Test
+    @DisplayName("should cache the lookup until the index is invalidated")
+    void shouldCacheUntilInvalidated() {
+
+        TargetHolder player = () -> Player.class;
+        holders.add(player);
+        assertThat(index.get(Player.class)).containsExactly(player);
+
+        TargetHolder object = () -> Object.class;
+        holders.add(object);
+        assertThat(index.get(Player.class)).containsExactly(player);
+
+        index.invalidate();
+        assertThat(index.get(Player.class)).containsExactly(player, object);
+    }
+}
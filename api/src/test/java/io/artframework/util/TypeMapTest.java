@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TypeMap")
+class TypeMapTest {
+
+    private TypeMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new TypeMap<>();
+    }
+
+    @Test
+    @DisplayName("should find the value of the nearest supertype")
+    void shouldFindNearestSupertype() {
+
+        map.put(Object.class, "object");
+        map.put(CharSequence.class, "sequence");
+
+        assertThat(map.find(String.class)).contains("sequence");
+        assertThat(map.find(Integer.class)).contains("object");
+        assertThat(map.find(Object.class)).contains("object");
+    }
+
+    @Test
+    @DisplayName("should discard memoized lookups when keys change")
+    void shouldInvalidateOnKeyChanges() {
+
+        map.put(Object.class, "object");
+        assertThat(map.find(String.class)).contains("object");
+
+        map.put(Serializable.class, "serializable");
+        assertThat(map.find(String.class)).contains("serializable");
+
+        map.remove(Serializable.class);
+        assertThat(map.find(String.class)).contains("object");
+
+        map.clear();
+        assertThat(map.find(String.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should be used by ReflectionUtil")
+    void shouldBeUsedByReflectionUtil() {
+
+        map.computeIfAbsent(CharSequence.class, type -> "sequence");
+
+        assertThat(ReflectionUtil.getEntryForTargetClass(String.class, map)).contains("sequence");
+        assertThat(ReflectionUtil.getEntryForTarget("foo", map)).contains("sequence");
+    }
+}
@@ -23,6 +23,7 @@ import io.artframework.annotations.ArtModule;
 import io.artframework.annotations.OnReload;
 import io.artframework.bukkit.parser.CommandLineParser;
 import io.artframework.bukkit.storage.EbeanPersistenceProvider;
+import io.artframework.bukkit.storage.StoragePreloadListener;
 import io.artframework.bukkit.storage.MetadataStore;
 import io.artframework.bukkit.trigger.EntityDamageTrigger;
 import io.artframework.bukkit.trigger.LocationTrigger;
@@ -50,6 +51,8 @@ public class ArtBukkitModule implements BootstrapModule {
     private PlayerListener playerListener;
     private LocationTrigger locationTrigger;
     private EntityDamageTrigger entityDamageTrigger;
+    private RequirementCacheListener requirementCacheListener;
+    private StoragePreloadListener storagePreloadListener;
     private final ArtBukkitPlugin plugin;
     private EbeanPersistenceProvider storageProvider;
 
@@ -116,6 +119,8 @@ public class ArtBukkitModule implements BootstrapModule {
 
         if (storageProvider != null) {
             storageProvider.load();
+            storagePreloadListener = new StoragePreloadListener(storageProvider);
+            Bukkit.getPluginManager().registerEvents(storagePreloadListener, plugin);
         }
 
         scope.configuration().parser().add(CommandLineParser::new);
@@ -123,10 +128,12 @@ public class ArtBukkitModule implements BootstrapModule {
         playerListener = new PlayerListener(scope);
         locationTrigger = new LocationTrigger(scope);
         entityDamageTrigger = new EntityDamageTrigger(scope);
+        requirementCacheListener = new RequirementCacheListener(scope);
 
         Bukkit.getPluginManager().registerEvents(playerListener, plugin);
         Bukkit.getPluginManager().registerEvents(locationTrigger, plugin);
         Bukkit.getPluginManager().registerEvents(entityDamageTrigger, plugin);
+        Bukkit.getPluginManager().registerEvents(requirementCacheListener, plugin);
 
         scope.register()
                 .trigger()
@@ -147,5 +154,12 @@ public class ArtBukkitModule implements BootstrapModule {
 
         HandlerList.unregisterAll(playerListener);
         HandlerList.unregisterAll(entityDamageTrigger);
+        HandlerList.unregisterAll(requirementCacheListener);
+
+        if (storageProvider != null) {
+            HandlerList.unregisterAll(storagePreloadListener);
+            // writes the values that are still queued
+            storageProvider.close();
+        }
     }
 }
@@ -25,7 +25,8 @@ import org.bukkit.event.Cancellable;
 @ART(
         value = "bukkit:event.cancel",
         alias = {"event.cancel", "cancel"},
-        description = "Makes it possible to cancel bukkit events that fired a trigger if they are cancellable and are passed with the trigger targets."
+        description = "Makes it possible to cancel bukkit events that fired a trigger if they are cancellable and are passed with the trigger targets.",
+        invalidatesRequirements = false
 )
 public class CancelBukkitEventAction implements Action<Cancellable> {
 
@@ -26,8 +26,9 @@ import org.bukkit.command.CommandSender;
 @ART(
         value = "text",
         alias = {"txt", "msg", "message"},
-        description = "Sends the given message to the receiver, e.g. a player."
-
+        description = "Sends the given message to the receiver, e.g. a player.",
+        shareable = true,
+        invalidatesRequirements = false
 )
 public class SendMessageAction implements Action<CommandSender> {
 
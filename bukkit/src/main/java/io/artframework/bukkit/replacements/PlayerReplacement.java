@@ -14,4 +14,22 @@ public class PlayerReplacement implements Replacement {
                 .map(OfflinePlayer::getName)
                 .orElse(value));
     }
+
+    @Override
+    public boolean placeholderOnly() {
+
+        return true;
+    }
+
+    @Override
+    public String replacePlaceholder(String placeholder, ReplacementContext context) {
+
+        if (!"player".equals(placeholder)) return null;
+
+        return context.target()
+                .filter(target -> target.isTargetType(OfflinePlayer.class))
+                .map(target -> (OfflinePlayer) target.source())
+                .map(OfflinePlayer::getName)
+                .orElse(null);
+    }
 }
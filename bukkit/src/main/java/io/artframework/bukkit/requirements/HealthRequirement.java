@@ -28,7 +28,7 @@ import java.util.regex.Pattern;
 /// [full-example]
 /// [header]
 @ART(value = "entity.health", alias = {"health"},
-description = "Checks if the health of the entity is within the given range.")
+description = "Checks if the health of the entity is within the given range.", shareable = true)
 public class HealthRequirement implements Requirement<LivingEntity> {
 /// [header]
     /// [config]
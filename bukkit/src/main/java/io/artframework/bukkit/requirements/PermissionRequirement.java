@@ -10,7 +10,7 @@ import io.artframework.annotations.ConfigOption;
 import lombok.NonNull;
 import org.bukkit.entity.Player;
 
-@ART("permission")
+@ART(value = "permission", shareable = true)
 public class PermissionRequirement implements Requirement<Player> {
 
     @ConfigOption(required = true, position = 0)
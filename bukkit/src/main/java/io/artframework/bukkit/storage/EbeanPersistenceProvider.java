@@ -1,54 +1,79 @@
 package io.artframework.bukkit.storage;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import io.artframework.*;
 import io.artframework.impl.DefaultMapStorageProvider;
-import io.ebean.DB;
 import io.ebean.Database;
+import io.ebean.Query;
 import io.ebean.Transaction;
-import io.ebean.meta.MetricData;
-import io.ebeaninternal.server.lib.Str;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.java.Log;
-import lombok.val;
 
-import javax.print.attribute.standard.MediaSize;
 import java.util.*;
-import java.util.function.Supplier;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+
+/**
+ * Persists the stored values in the database with a write-behind queue.
+ * <p>Values are written to the cache and queued by their {@link StorageKey}, overwriting any pending write of the same key.
+ * The queue is flushed asynchronously in batches, so setting a value never touches the database on the calling thread.
+ * <p>Reading a value never queries the database on the calling thread either.
+ * The global values are loaded when the provider is {@link #load() loaded} and the values of players
+ * are preloaded asynchronously when they log in, see {@link StoragePreloadListener}.
+ * Values of other targets, e.g. entities, are loaded asynchronously on their first access and are absent until then.
+ * Setting such a value before it was loaded replaces the stored value.
+ */
 @Log(topic = "art-framework:ebean")
 public class EbeanPersistenceProvider extends DefaultMapStorageProvider implements StorageProvider {
 
+    /**
+     * The default number of values that are kept in memory.
+     * Values that were not used for the longest time are removed from the cache and loaded again when needed.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+    // maximum number of statements in one jdbc batch and of keys in one lookup query
+    private static final int BATCH_SIZE = 100;
+    // cached for keys that do not exist in the database to not query them again
+    private static final Object ABSENT = new Object();
+    // cached for keys whose value is loaded asynchronously, they are absent until the value is loaded
+    private static final Object LOADING = new Object();
+    // the preload state of the global keys is stored with this target name
+    private static final String GLOBAL = "";
+
     @Getter
     private final Database database;
-    private final Map<String, Object> cache = new HashMap<>();
-    private final Map<UUID, MetadataStore> queuedTransactions = new HashMap<>();
+    // the cache and queue are shared by the callers and the asynchronous save and load tasks
+    // all access to the cache is guarded by its lock, which is never held while accessing the database
+    private final Map<StorageKey, Object> cache;
+    // the json of every key that was changed since the last flush
+    private final Map<StorageKey, String> pendingWrites = new ConcurrentHashMap<>();
+    // the targets whose values were all loaded into the cache
+    private final Map<String, Preload> preloads = new ConcurrentHashMap<>();
+    // only one flush may write to the database at a time
+    private final Object flushLock = new Object();
     private final Gson gson = new Gson();
-    private final Runnable saveRunnable;
 
     private Task task;
 
     public EbeanPersistenceProvider(Scope scope, Database database) {
+        this(scope, database, DEFAULT_CACHE_SIZE);
+    }
+
+    public EbeanPersistenceProvider(Scope scope, Database database, int cacheSize) {
         super(scope);
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be greater than zero, but was " + cacheSize);
+        }
         this.database = database;
-        saveRunnable = () -> {
-            final List<MetadataStore> transactions = List.copyOf(queuedTransactions.values());
-            queuedTransactions.clear();
-
-            try (Transaction transaction = database.beginTransaction()) {
-                for (MetadataStore store : transactions) {
-                    if (store.id() == null) {
-                        store.insert();
-                    } else {
-                        MetadataStore existing = MetadataStore.find.byId(store.id());
-                        if (existing != null) {
-                            existing.metaValue(store.metaValue()).save();
-                        }
-                    }
-                }
-                transaction.commit();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StorageKey, Object> eldest) {
+                if (size() <= cacheSize) return false;
+                evicted(eldest.getKey());
+                return true;
             }
         };
     }
@@ -56,110 +81,452 @@ public class EbeanPersistenceProvider extends DefaultMapStorageProvider implemen
     public void load() {
 
         task = startTask();
+        runAsync(this::preloadGlobal);
     }
 
     public void reload() {
 
         if (task != null) {
             task.cancel();
-            saveRunnable.run();
+            flush();
         }
 
-        cache.clear();
-        task = startTask();
+        clearCache();
+        load();
+    }
+
+    @Override
+    public void close() {
+
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        flush();
+        clearCache();
     }
 
     private Task startTask() {
         return scope().configuration().scheduler()
-                .map(scheduler -> scheduler.runTaskTimerAsynchronously(saveRunnable, 1000L, 1000L)) // in milliseconds
+                .map(scheduler -> scheduler.runTaskTimerAsynchronously(this::flush, 1000L, 1000L)) // in milliseconds
                 .orElse(null);
     }
 
-    @Override
-    public <TValue> Optional<TValue> set(@NonNull Target<?> target, @NonNull String key, @NonNull TValue value) {
+    private void runAsync(Runnable runnable) {
 
-        final String json = gson.toJson(value);
-        MetadataStore store = MetadataStore.find(target, key)
-                .orElse(new MetadataStore(key, json))
-                .metaValue(json);
+        Optional<Scheduler> scheduler = scope().configuration().scheduler();
+        if (scheduler.isPresent()) {
+            scheduler.get().runTaskAsynchronously(runnable);
+        } else {
+            CompletableFuture.runAsync(runnable);
+        }
+    }
 
-        return updateCache(cacheKey(target, key), value, store);
+    private void clearCache() {
+
+        synchronized (cache) {
+            preloads.clear();
+            cache.clear();
+        }
     }
 
-    @Override
-    public <TValue> Optional<TValue> set(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull String key, TValue value) {
+    /**
+     * Loads all values of the given target into the cache.
+     * <p>This queries the database on the calling thread and should be called asynchronously,
+     * e.g. when a player logs in. Afterwards keys of the target that are not cached are known
+     * to not exist until the target is {@link #unload(String) unloaded}.
+     *
+     * @param target the unique id of the target
+     */
+    public void preload(@NonNull String target) {
+
+        preload(target, database.find(MetadataStore.class).where().eq("target", target).findList());
+    }
+
+    private void preloadGlobal() {
+
+        preload(GLOBAL, database.find(MetadataStore.class).where().isNull("target").findList());
+    }
+
+    private void preload(String target, List<MetadataStore> stores) {
+
+        synchronized (cache) {
+            // registered first to record the keys that are evicted while the values are added
+            preloads.put(target, new Preload());
+            for (MetadataStore store : stores) {
+                StorageKey key = store.storageKey();
+                Object current = cache.get(key);
+                if (!pendingWrites.containsKey(key) && (current == null || current == ABSENT || current == LOADING)) {
+                    cache.put(key, new StoredJson(store.metaValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets that the values of the given target were preloaded, e.g. after a player logged out.
+     * <p>The cached values of the target are kept until they are evicted.
+     *
+     * @param target the unique id of the target
+     */
+    public void unload(@NonNull String target) {
+
+        preloads.remove(target);
+    }
+
+    /**
+     * Writes all pending values to the database.
+     * <p>Each key is only written once with its latest value.
+     * Existing rows are looked up with one query per batch of keys and all rows
+     * are inserted or updated with jdbc batches in a single transaction.
+     * <p>Values that could not be written stay queued and are written with the next flush.
+     */
+    public void flush() {
+
+        synchronized (flushLock) {
+            if (pendingWrites.isEmpty()) return;
+
+            // the values stay queued until they are committed to serve reads of evicted values
+            final Map<StorageKey, String> writes = new HashMap<>(pendingWrites);
+
+            try (Transaction transaction = database.beginTransaction()) {
+                transaction.setBatchMode(true);
+                transaction.setBatchSize(BATCH_SIZE);
+
+                Map<StorageKey, MetadataStore> existing = findExisting(writes.keySet(), transaction);
+                List<MetadataStore> inserts = new ArrayList<>();
+                List<MetadataStore> updates = new ArrayList<>();
+                for (Map.Entry<StorageKey, String> write : writes.entrySet()) {
+                    MetadataStore store = existing.get(write.getKey());
+                    if (store == null) {
+                        inserts.add(MetadataStore.of(write.getKey(), write.getValue()));
+                    } else if (!write.getValue().equals(store.metaValue())) {
+                        updates.add(store.metaValue(write.getValue()));
+                    }
+                }
+
+                database.insertAll(inserts, transaction);
+                database.updateAll(updates, transaction);
+                transaction.commit();
+            } catch (Exception e) {
+                log.log(Level.SEVERE, "failed to save " + writes.size() + " stored values: " + e.getMessage(), e);
+                return;
+            }
+
+            // values that were changed during the flush are written with the next flush
+            writes.forEach(pendingWrites::remove);
+        }
+    }
+
+    private Map<StorageKey, MetadataStore> findExisting(Collection<StorageKey> keys, Transaction transaction) {
+
+        Map<StorageKey, MetadataStore> existing = new HashMap<>();
+        List<StorageKey> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<StorageKey> iterator = keys.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+                for (MetadataStore store : query(batch, transaction)) {
+                    StorageKey key = store.storageKey();
+                    if (keys.contains(key)) existing.put(key, store);
+                }
+                batch.clear();
+            }
+        }
+        return existing;
+    }
+
+    private Optional<MetadataStore> find(StorageKey key) {
+
+        return query(Collections.singletonList(key), null).stream()
+                .filter(store -> key.equals(store.storageKey()))
+                .findFirst();
+    }
+
+    // selects all rows that might match one of the keys, the exact match is done by the caller
+    private List<MetadataStore> query(List<StorageKey> keys, Transaction transaction) {
+
+        Set<String> targets = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        Set<String> globalNames = new HashSet<>();
+        for (StorageKey key : keys) {
+            if (key.hasTarget()) {
+                targets.add(key.target());
+                names.add(key.key());
+            } else {
+                globalNames.add(key.key());
+            }
+        }
+
+        List<MetadataStore> rows = new ArrayList<>();
+        if (!targets.isEmpty()) {
+            rows.addAll(query(transaction).where()
+                    .in("target", targets)
+                    .in("meta_key", names)
+                    .findList());
+        }
+        if (!globalNames.isEmpty()) {
+            rows.addAll(query(transaction).where()
+                    .isNull("target")
+                    .in("meta_key", globalNames)
+                    .findList());
+        }
+        return rows;
+    }
+
+    // queries outside of a transaction if none is given
+    private Query<MetadataStore> query(Transaction transaction) {
 
-        final String json = gson.toJson(value);
-        MetadataStore store = MetadataStore.find(context, target, key)
-                .orElse(new MetadataStore(key, json)
-                        .context(context.uniqueId())
-                        .contextType(context.meta().artObjectClass().getCanonicalName())
-                        .cacheKey(context.storageKey())
-                        .target(target.uniqueId()))
-                .metaValue(json);
+        Query<MetadataStore> query = database.find(MetadataStore.class);
+        return transaction != null ? query.usingTransaction(transaction) : query;
+    }
+
+    /**
+     * Loads the value of the key from the database without blocking the caller.
+     * <p>The loaded value is only cached if no other value was set in the meantime.
+     */
+    private void load(StorageKey key) {
+
+        runAsync(() -> {
+            Object value;
+            try {
+                value = find(key).<Object>map(store -> new StoredJson(store.metaValue())).orElse(ABSENT);
+            } catch (Exception e) {
+                log.log(Level.SEVERE, "failed to load stored value " + key + ": " + e.getMessage(), e);
+                value = null;
+            }
+
+            synchronized (cache) {
+                if (cache.get(key) == LOADING) {
+                    // failed values are loaded again with the next access
+                    if (value != null) {
+                        cache.put(key, value);
+                    } else {
+                        cache.remove(key);
+                    }
+                }
+                Preload preload = preloads.get(preloadTarget(key));
+                if (preload != null && value != null) {
+                    preload.evicted.remove(key);
+                }
+            }
+        });
+    }
+
+    private static String preloadTarget(StorageKey key) {
+
+        return key.hasTarget() ? key.target() : GLOBAL;
+    }
+
+    // called while holding the lock of the cache
+    private void evicted(StorageKey key) {
+
+        Preload preload = preloads.get(preloadTarget(key));
+        if (preload != null) {
+            preload.evicted.add(key);
+        }
+    }
 
-        return updateCache(cacheKey(context, target, key), value, store);
+    /**
+     * Gets the cached value of the key.
+     * <p>Evicted values may not have been saved yet and are served from the pending writes.
+     * Keys of preloaded targets that are not cached do not exist.
+     * <p>Must be called while holding the lock of the cache.
+     *
+     * @return the cached value, the json of the value, {@link #ABSENT} or null if the value must be loaded
+     */
+    private Object cached(StorageKey key) {
+
+        Object value = cache.get(key);
+        if (value != null) return value;
+
+        String json = pendingWrites.get(key);
+        if (json != null) {
+            value = new StoredJson(json);
+            cache.put(key, value);
+            return value;
+        }
+
+        Preload preload = preloads.get(preloadTarget(key));
+        if (preload != null && !preload.evicted.contains(key)) {
+            return ABSENT;
+        }
+
+        return null;
+    }
+
+    /**
+     * Converts a cached value to the given type.
+     *
+     * @return the value or null if it does not exist or has another type
+     */
+    private <TValue> TValue convert(Object value, Class<TValue> valueClass) {
+
+        if (value instanceof StoredJson) {
+            value = ((StoredJson) value).as(gson, valueClass);
+        }
+        return valueClass.isInstance(value) ? valueClass.cast(value) : null;
     }
 
     @Override
     public <TValue> Optional<TValue> set(@NonNull String key, @NonNull TValue value) {
 
-        final String json = gson.toJson(value);
-        MetadataStore store = MetadataStore.find(key)
-                .orElse(new MetadataStore(key, json))
-                .metaValue(json);
+        return set(StorageKey.of(key), value);
+    }
 
-        return updateCache(key, value, store);
+    @Override
+    @SuppressWarnings("unchecked")
+    public <TValue> Optional<TValue> set(@NonNull StorageKey key, @NonNull TValue value) {
+
+        String json = gson.toJson(value);
+        Object existingValue;
+        synchronized (cache) {
+            existingValue = cache.put(key, value);
+            if (existingValue == null) {
+                String pendingJson = pendingWrites.get(key);
+                existingValue = pendingJson != null ? new StoredJson(pendingJson) : null;
+            }
+            pendingWrites.put(key, json);
+        }
+
+        return Optional.ofNullable(convert(existingValue, (Class<TValue>) value.getClass()));
     }
 
     @Override
     public <TValue> Optional<TValue> get(String key, Class<TValue> valueClass) {
 
-        return getCache(key, valueClass, () -> MetadataStore.find(key));
+        return get(StorageKey.of(key), valueClass);
     }
 
     @Override
-    public <TValue> Optional<TValue> get(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass) {
+    public <TValue> Optional<TValue> get(@NonNull StorageKey key, @NonNull Class<TValue> valueClass) {
+
+        TValue value;
+        boolean load = false;
+        synchronized (cache) {
+            Object cachedValue = cached(key);
+            if (cachedValue == null) {
+                cache.put(key, LOADING);
+                load = true;
+            }
+            value = convert(cachedValue, valueClass);
+            if (cachedValue instanceof StoredJson && value != null) {
+                // replaces the json of preloaded values with the value
+                cache.put(key, value);
+            }
+        }
+        if (load) load(key);
 
-        return getCache(cacheKey(target, key), valueClass, () -> MetadataStore.find(target, key));
+        return Optional.ofNullable(value);
     }
 
+    // counters and timestamps go through the cache like all other values to persist them
     @Override
-    public <TValue> Optional<TValue> get(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass) {
+    public int count(@NonNull StorageKey key) {
 
-        return getCache(cacheKey(context, target, key), valueClass, () -> MetadataStore.find(context, target, key));
+        return get(key, Integer.class).orElse(0);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TValue> Optional<TValue> getCache(String key, Class<TValue> valueClass, Supplier<Optional<MetadataStore>> store) {
+    /**
+     * {@inheritDoc}
+     * <p>The function is called while the cache is locked and must not access this provider.
+     */
+    @Override
+    public <TValue> Optional<TValue> compute(@NonNull StorageKey key, @NonNull Class<TValue> valueClass, @NonNull UnaryOperator<TValue> function) {
+
+        TValue value;
+        boolean load = false;
+        synchronized (cache) {
+            Object cachedValue = cached(key);
+            value = function.apply(convert(cachedValue, valueClass));
+            if (value != null) {
+                cache.put(key, value);
+                pendingWrites.put(key, gson.toJson(value));
+            } else if (cachedValue == null) {
+                cache.put(key, LOADING);
+                load = true;
+            }
+        }
+        if (load) load(key);
 
-        return Optional.ofNullable((TValue) cache.computeIfAbsent(key,
-                id -> store.get()
-                        .map(MetadataStore::metaValue)
-                        .map(value -> gson.fromJson(value, valueClass))
-                        .orElse(null)));
+        return Optional.ofNullable(value);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TValue> Optional<TValue> updateCache(String key, TValue value, MetadataStore store) {
+    @Override
+    public int increment(@NonNull StorageKey key, int delta) {
 
-        Object existingValue = cache.put(key, value);
-        queuedTransactions.put(store.id(), store);
+        return compute(key, Integer.class, value -> (value != null ? value : 0) + delta).orElse(0);
+    }
 
-        if (value.getClass().isInstance(existingValue)) {
-            return Optional.of((TValue) existingValue);
-        }
+    @Override
+    public long timestamp(@NonNull StorageKey key) {
 
-        return Optional.empty();
+        return get(key, Long.class).orElse(0L);
     }
 
-    private String cacheKey(Target<?> target, String key) {
+    @Override
+    public long timestamp(@NonNull StorageKey key, long timestamp) {
+
+        return set(key, timestamp).orElse(0L);
+    }
+
+    @Override
+    public boolean compareAndSetTimestamp(@NonNull StorageKey key, long expected, long timestamp) {
+
+        boolean[] updated = new boolean[1];
+        compute(key, Long.class, value -> {
+            updated[0] = (value != null ? value : 0L) == expected;
+            return updated[0] ? timestamp : null;
+        });
+        return updated[0];
+    }
+
+    // the database has no expiry column, the values are kept like all other values
+    // an expired cooldown timestamp stays in the past and the bounded cache limits the memory usage
+    @Override
+    public <TValue> Optional<TValue> set(@NonNull StorageKey key, @NonNull TValue value, long ttl) {
 
-        return target.uniqueId() + key;
+        return set(key, value);
+    }
+
+    @Override
+    public long timestamp(@NonNull StorageKey key, long timestamp, long ttl) {
+
+        return timestamp(key, timestamp);
+    }
+
+    @Override
+    public boolean compareAndSetTimestamp(@NonNull StorageKey key, long expected, long timestamp, long ttl) {
+
+        return compareAndSetTimestamp(key, expected, timestamp);
+    }
+
+    /**
+     * The json of a value that was loaded before its type was known.
+     */
+    private static final class StoredJson {
+
+        private final String json;
+
+        private StoredJson(String json) {
+            this.json = json;
+        }
+
+        private Object as(Gson gson, Class<?> valueClass) {
+            try {
+                return gson.fromJson(json, valueClass);
+            } catch (Exception e) {
+                return null;
+            }
+        }
     }
 
-    private String cacheKey(ArtObjectContext<?> context, Target<?> target, String key) {
+    /**
+     * The load state of a preloaded target.
+     */
+    private static final class Preload {
 
-        return context.uniqueId() + context.storageKey() + target.uniqueId() + key;
+        // the keys of the target that were evicted from the cache and must be loaded again
+        private final Set<StorageKey> evicted = ConcurrentHashMap.newKeySet();
     }
 }
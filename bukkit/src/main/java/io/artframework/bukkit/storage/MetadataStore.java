@@ -1,6 +1,7 @@
 package io.artframework.bukkit.storage;
 
 import io.artframework.ArtObjectContext;
+import io.artframework.StorageKey;
 import io.artframework.Target;
 import io.ebean.Finder;
 import io.ebean.annotation.Index;
@@ -23,6 +24,15 @@ public class MetadataStore extends BaseEntity {
 
     public static final Finder<UUID, MetadataStore> find = new Finder<>(MetadataStore.class);
 
+    public static MetadataStore of(StorageKey key, String value) {
+
+        return new MetadataStore(key.key(), value)
+                .context(key.context())
+                .contextType(key.contextType())
+                .cacheKey(key.storageKey())
+                .target(key.target());
+    }
+
     public static Optional<MetadataStore> find(String key) {
 
         return find.query().where()
@@ -72,4 +82,9 @@ public class MetadataStore extends BaseEntity {
         this.metaKey = metaKey;
         this.metaValue = value;
     }
+
+    public StorageKey storageKey() {
+
+        return StorageKey.of(context, contextType, cacheKey, target, metaKey);
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.bukkit.storage;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Loads the stored values of a player into the cache of the {@link EbeanPersistenceProvider}
+ * while the player logs in, so that executing actions for the player does not query the database.
+ * <p>The {@link AsyncPlayerPreLoginEvent} is called asynchronously and does not block the server.
+ * The preload state is dropped when the player quits and the values are evicted from the cache over time.
+ */
+public class StoragePreloadListener implements Listener {
+
+    private final EbeanPersistenceProvider storage;
+
+    public StoragePreloadListener(EbeanPersistenceProvider storage) {
+        this.storage = storage;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        storage.preload(event.getUniqueId().toString());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+
+        storage.unload(event.getPlayer().getUniqueId().toString());
+    }
+}
@@ -7,7 +7,7 @@ import java.util.UUID;
 
 public class BukkitEventTarget extends AbstractTarget<Event> {
 
-    private final UUID uuid = UUID.randomUUID();
+    private final String uniqueId = UUID.randomUUID().toString();
 
     public BukkitEventTarget(Event source) {
         super(source);
@@ -16,6 +16,6 @@ public class BukkitEventTarget extends AbstractTarget<Event> {
     @Override
     public String uniqueId() {
 
-        return uuid.toString();
+        return uniqueId;
     }
 }
@@ -23,13 +23,16 @@ import org.bukkit.entity.Player;
 
 public class CommandSenderTarget extends AbstractTarget<CommandSender> implements MessageSender {
 
+    private final String uniqueId;
+
     public CommandSenderTarget(CommandSender source) {
         super(source);
+        this.uniqueId = source instanceof Player ? ((Player) source).getUniqueId().toString() : source.getName();
     }
 
     @Override
     public String uniqueId() {
-        return source() instanceof Player ? ((Player) source()).getUniqueId().toString() : source().getName();
+        return uniqueId;
     }
 
     @Override
@@ -21,14 +21,17 @@ import org.bukkit.entity.Entity;
 
 public class EntityTarget extends AbstractTarget<Entity> {
 
+    private final String uniqueId;
+
     public EntityTarget(Entity source) {
 
         super(source);
+        this.uniqueId = source.getUniqueId().toString();
     }
 
     @Override
     public String uniqueId() {
 
-        return source().getUniqueId().toString();
+        return uniqueId;
     }
 }
@@ -21,12 +21,15 @@ import org.bukkit.entity.LivingEntity;
 
 public class LivingEntityTarget extends AbstractTarget<LivingEntity> {
 
+    private final String uniqueId;
+
     public LivingEntityTarget(LivingEntity source) {
         super(source);
+        this.uniqueId = source.getUniqueId().toString();
     }
 
     @Override
     public String uniqueId() {
-        return source().getUniqueId().toString();
+        return uniqueId;
     }
 }
@@ -23,14 +23,17 @@ import org.bukkit.entity.Player;
 
 public class OfflinePlayerTarget extends AbstractTarget<OfflinePlayer> {
 
+    private final String uniqueId;
+
     public OfflinePlayerTarget(OfflinePlayer source) {
 
         super(source);
+        this.uniqueId = source.getUniqueId().toString();
     }
 
     @Override
     public String uniqueId() {
 
-        return source().getUniqueId().toString();
+        return uniqueId;
     }
 }
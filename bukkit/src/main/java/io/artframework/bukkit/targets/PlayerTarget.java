@@ -22,9 +22,13 @@ import org.bukkit.entity.Player;
 
 public class PlayerTarget extends AbstractTarget<Player> implements MessageSender {
 
+    // the unique id of the source never changes and is used in every storage access
+    private final String uniqueId;
+
     public PlayerTarget(Player source) {
 
         super(source);
+        this.uniqueId = source.getUniqueId().toString();
     }
 
     @Override
@@ -36,6 +40,6 @@ public class PlayerTarget extends AbstractTarget<Player> implements MessageSende
     @Override
     public String uniqueId() {
 
-        return source().getUniqueId().toString();
+        return uniqueId;
     }
 }
@@ -56,6 +56,8 @@ public class EntityDamageTrigger implements Trigger, Listener, Configurable<Enti
     @EventHandler(ignoreCancelled = true)
     public void onEntityDamage(EntityDamageEvent event) {
 
+        if (!scope.configuration().trigger().hasListeners(EntityDamageTrigger.class)) return;
+
         scope.trigger(EntityDamageTrigger.class)
                 .with(event)
                 .with(event.getEntity())
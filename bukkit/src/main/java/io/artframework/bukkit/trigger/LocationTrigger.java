@@ -52,6 +52,8 @@ public class LocationTrigger implements Listener, Trigger, Requirement<Entity>,
     @EventHandler(ignoreCancelled = true)
     public void onMove(PlayerMoveEvent event) {
 
+        if (!scope().configuration().trigger().hasListeners(LocationTrigger.class)) return;
+
         Location lastLocation = lastLocations.computeIfAbsent(event.getPlayer().getUniqueId(), uuid -> event.getTo());
         if (!moved(lastLocation, event.getTo())) return;
         lastLocations.put(event.getPlayer().getUniqueId(), event.getTo());
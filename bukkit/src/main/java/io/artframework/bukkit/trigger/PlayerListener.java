@@ -37,6 +37,8 @@ public class PlayerListener implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onPlayerJoin(PlayerJoinEvent event) {
 
+        if (!scope.configuration().trigger().hasListeners(PlayerJoinTrigger.class)) return;
+
         scope.trigger(PlayerJoinTrigger.class)
                 .with(event)
                 .with(event.getPlayer())
@@ -47,6 +49,8 @@ public class PlayerListener implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onPlayerQuit(PlayerQuitEvent event) {
 
+        if (!scope.configuration().trigger().hasListeners(PlayerQuitTrigger.class)) return;
+
         scope.trigger(PlayerQuitTrigger.class)
                 .with(event)
                 .with(event.getPlayer())
@@ -63,6 +67,8 @@ public class PlayerListener implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onPlayerKick(PlayerKickEvent event) {
 
+        if (!scope.configuration().trigger().hasListeners(PlayerKickTrigger.class)) return;
+
         scope.trigger(PlayerKickTrigger.class)
                 .with(event)
                 .with(event.getPlayer())
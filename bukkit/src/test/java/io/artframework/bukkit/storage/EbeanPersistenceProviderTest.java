@@ -0,0 +1,186 @@
+package io.artframework.bukkit.storage;
+
+import io.artframework.Scheduler;
+import io.artframework.Scope;
+import io.artframework.StorageKey;
+import io.artframework.impl.DefaultScope;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.PersistenceException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ALL")
+class EbeanPersistenceProviderTest {
+
+    private Database database;
+    private Scheduler scheduler;
+    private Scope scope;
+    private EbeanPersistenceProvider storage;
+    private String target;
+
+    @BeforeEach
+    void setUp() {
+
+        DB.getDefault().find(MetadataStore.class).delete();
+        database = mock(Database.class, delegatesTo(DB.getDefault()));
+        // runs the asynchronous tasks immediately to make the loading deterministic
+        scheduler = mock(Scheduler.class);
+        when(scheduler.runTaskAsynchronously(any())).thenAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        });
+        scope = new DefaultScope(config -> config.scheduler(scheduler));
+        storage = new EbeanPersistenceProvider(scope, database);
+        target = UUID.randomUUID().toString();
+    }
+
+    private StorageKey key(String key) {
+
+        return StorageKey.of(null, null, null, target, key);
+    }
+
+    private List<MetadataStore> rows() {
+
+        return DB.getDefault().find(MetadataStore.class).where().eq("target", target).findList();
+    }
+
+    @Test
+    @DisplayName("should only write the latest value of a key that was set multiple times")
+    void shouldCoalesceWritesOfTheSameKey() {
+
+        storage.set(key("foo"), 1);
+        storage.set(key("foo"), 2);
+        storage.set(key("foo"), 3);
+        storage.flush();
+
+        assertThat(rows())
+                .hasSize(1)
+                .extracting(MetadataStore::metaValue)
+                .containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("should insert new keys and update existing keys")
+    void shouldInsertAndUpdateRows() {
+
+        storage.set(key("foo"), 1);
+        storage.flush();
+        verify(database).insertAll(argThat(beans -> beans.size() == 1), any(Transaction.class));
+
+        storage.set(key("foo"), 2);
+        storage.flush();
+        verify(database).updateAll(argThat(beans -> beans.size() == 1), any(Transaction.class));
+
+        assertThat(rows())
+                .hasSize(1)
+                .extracting(MetadataStore::metaValue)
+                .containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("should keep pending values and write them with the next flush if the commit failed")
+    void shouldRetryPendingValuesAfterFailedCommit() {
+
+        doThrow(new PersistenceException("connection lost"))
+                .when(database).insertAll(any(Collection.class), any(Transaction.class));
+
+        storage.set(key("foo"), 1);
+        storage.flush();
+        assertThat(rows()).isEmpty();
+
+        doAnswer(delegatesTo(DB.getDefault()))
+                .when(database).insertAll(any(Collection.class), any(Transaction.class));
+        storage.flush();
+
+        assertThat(rows())
+                .extracting(MetadataStore::metaValue)
+                .containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("should read pending values that were evicted from the cache")
+    void shouldReadEvictedPendingValues() {
+
+        storage = new EbeanPersistenceProvider(scope, database, 1);
+
+        storage.set(key("foo"), 1);
+        storage.set(key("bar"), 2);
+        clearInvocations(database);
+
+        assertThat(storage.get(key("foo"), Integer.class)).get().isEqualTo(1);
+        verify(database, never()).find(any(Class.class));
+    }
+
+    @Test
+    @DisplayName("should read preloaded values without querying the database")
+    void shouldReadPreloadedValues() {
+
+        storage.set(key("foo"), 42L);
+        storage.flush();
+
+        storage = new EbeanPersistenceProvider(scope, database);
+        storage.preload(target);
+        clearInvocations(database);
+
+        assertThat(storage.get(key("foo"), Long.class)).get().isEqualTo(42L);
+        assertThat(storage.get(key("bar"), Long.class)).isEmpty();
+        verify(database, never()).find(any(Class.class));
+    }
+
+    @Test
+    @DisplayName("should load values of targets that were not preloaded asynchronously")
+    void shouldLoadMissingValuesAsynchronously() {
+
+        storage.set(key("foo"), 42L);
+        storage.flush();
+        storage = new EbeanPersistenceProvider(scope, database);
+        clearInvocations(database);
+
+        assertThat(storage.get(key("foo"), Long.class)).isEmpty();
+        verify(scheduler).runTaskAsynchronously(any());
+        assertThat(storage.get(key("foo"), Long.class)).get().isEqualTo(42L);
+        verify(database, times(1)).find(any(Class.class));
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used value and load it again for a preloaded target")
+    void shouldEvictLeastRecentlyUsedValue() {
+
+        storage = new EbeanPersistenceProvider(scope, database, 2);
+        storage.preload(target);
+        storage.set(key("foo"), 1);
+        storage.set(key("bar"), 2);
+        storage.flush();
+
+        storage.get(key("foo"), Integer.class);
+        storage.set(key("baz"), 3);
+        clearInvocations(database);
+
+        assertThat(storage.get(key("foo"), Integer.class)).get().isEqualTo(1);
+        verify(database, never()).find(any(Class.class));
+        assertThat(storage.get(key("bar"), Integer.class)).isEmpty();
+        verify(database, times(1)).find(any(Class.class));
+        assertThat(storage.get(key("bar"), Integer.class)).get().isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reject a cache size smaller than one")
+    void shouldRejectEmptyCache() {
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EbeanPersistenceProvider(scope, database, 0));
+    }
+}